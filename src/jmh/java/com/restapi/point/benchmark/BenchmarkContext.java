@@ -0,0 +1,39 @@
+package com.restapi.point.benchmark;
+
+import com.restapi.point.PointApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/*
+벤치마크용 스프링 컨텍스트 생성
+
+- 웹 서버 없이 서비스/리포지토리만 띄운다.
+- TCP H2 대신 인메모리 H2 를 사용해 네트워크 편차를 제거한다.
+- 커맨드라인 인자로 넘겨야 application.properties 보다 우선 적용된다.
+*/
+public final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    public static ConfigurableApplicationContext start(String name, String... extraArgs) {
+        String[] baseArgs = {
+                "--spring.datasource.url=jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.hikari.maximum-pool-size=64", // 64 스레드 측정 시 커넥션 대기가 결과를 왜곡하지 않도록
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--spring.h2.console.enabled=false",
+                "--logging.level.root=WARN"
+        };
+        String[] args = new String[baseArgs.length + extraArgs.length];
+        System.arraycopy(baseArgs, 0, args, 0, baseArgs.length);
+        System.arraycopy(extraArgs, 0, args, baseArgs.length, extraArgs.length);
+
+        return new SpringApplicationBuilder(PointApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run(args);
+    }
+}
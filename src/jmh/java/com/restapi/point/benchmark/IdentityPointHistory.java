@@ -0,0 +1,28 @@
+package com.restapi.point.benchmark;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+//비교용 : 기존 IDENTITY 전략의 포인트 내역 (벤치마크 전용 테이블)
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "point_history_identity")
+public class IdentityPointHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long id;
+
+    @Column(name = "USER_ID")
+    private long userId;
+    private long point;
+    private String type;
+
+    public IdentityPointHistory(long userId , long point , String type) {
+        this.userId = userId;
+        this.point = point;
+        this.type = type;
+    }
+}
@@ -0,0 +1,6 @@
+package com.restapi.point.benchmark;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface IdentityPointHistoryRepository extends JpaRepository<IdentityPointHistory , Long> {
+}
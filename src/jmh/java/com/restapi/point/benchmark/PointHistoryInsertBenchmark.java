@@ -0,0 +1,74 @@
+package com.restapi.point.benchmark;
+
+import com.restapi.point.domain.model.PointHistory;
+import com.restapi.point.infrastructure.repository.PointRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+/*
+포인트 내역 100만 건 INSERT 비교
+
+- sequenceWithJdbcBatch : PointRepository (시퀀스 pooled + hibernate.jdbc.batch_size)
+- identity              : 기존 IDENTITY 전략 (행마다 INSERT 1회 , JDBC 배치 불가)
+
+CHUNK_SIZE 건마다 트랜잭션을 나눠 영속성 컨텍스트가 계속 커지지 않게 한다.
+*/
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class PointHistoryInsertBenchmark {
+
+    static final int ROW_COUNT = 1_000_000;
+    static final int CHUNK_SIZE = 1_000;
+
+    private ConfigurableApplicationContext context;
+    private PointRepository pointRepository;
+    private IdentityPointHistoryRepository identityPointHistoryRepository;
+    private TransactionTemplate transactionTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("point-history-insert-bench");
+        pointRepository = context.getBean(PointRepository.class);
+        identityPointHistoryRepository = context.getBean(IdentityPointHistoryRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void clearTables() {
+        pointRepository.deleteAllInBatch();
+        identityPointHistoryRepository.deleteAllInBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void sequenceWithJdbcBatch() {
+        insertAll(pointRepository , i -> new PointHistory(i % 1000 , i , "충전"));
+    }
+
+    @Benchmark
+    public void identity() {
+        insertAll(identityPointHistoryRepository , i -> new IdentityPointHistory(i % 1000 , i , "충전"));
+    }
+
+    private <T> void insertAll(JpaRepository<T , Long> repository , LongFunction<T> factory) {
+        for(long start = 0 ; start < ROW_COUNT ; start += CHUNK_SIZE) {
+            List<T> chunk = new ArrayList<>(CHUNK_SIZE);
+            for(long i = start ; i < start + CHUNK_SIZE ; i++) {
+                chunk.add(factory.apply(i));
+            }
+            transactionTemplate.executeWithoutResult(status -> repository.saveAll(chunk));
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.restapi.point.benchmark;
+
+import com.restapi.point.domain.model.User;
+import com.restapi.point.domain.service.PointService;
+import com.restapi.point.infrastructure.repository.UserRepository;
+import com.restapi.point.presentation.dto.RequestDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+PointService 동시성 제어 전략 비교 벤치마크
+
+- 처리량(Throughput) + 지연시간 분포(SampleTime : p50 , p99 , p99.9)
+- userPattern
+  hot    : 모든 스레드가 한 명의 사용자에게 요청 (단일 계정 경합)
+  spread : USER_COUNT 명의 사용자에게 무작위로 분산
+- 스레드 수(1 , 8 , 64)는 아래 정적 클래스에서 @Threads 로 지정한다.
+
+실행 : ./gradlew jmh  (결과 : build/reports/jmh/results-{version}.json)
+*/
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public abstract class PointServiceBenchmark {
+
+    static final int USER_COUNT = 10_000;
+    static final long HOT_USER_ID = 1L;
+    static final long INITIAL_POINT = Long.MAX_VALUE / 4; // use 가 잔액부족으로 실패하지 않도록
+
+    private static final RequestDTO ONE_POINT = new RequestDTO(1);
+
+    @Param({"hot", "spread"})
+    public String userPattern;
+
+    private ConfigurableApplicationContext context;
+    private PointService pointService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("point-service-bench");
+        pointService = context.getBean(PointService.class);
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        List<User> users = new ArrayList<>(USER_COUNT);
+        for (long userId = 1; userId <= USER_COUNT; userId++) {
+            users.add(new User(userId, INITIAL_POINT));
+        }
+        userRepository.saveAll(users);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private long nextUserId() {
+        if ("hot".equals(userPattern)) return HOT_USER_ID;
+        return ThreadLocalRandom.current().nextLong(1, USER_COUNT + 1);
+    }
+
+    //synchronized
+    @Benchmark
+    public User chargeBySynchronized() {
+        return pointService.chargeBySynchronized(nextUserId(), ONE_POINT);
+    }
+
+    @Benchmark
+    public User useBySynchronized() {
+        return pointService.useBySynchronized(nextUserId(), ONE_POINT);
+    }
+
+    //ReentrantLock
+    @Benchmark
+    public User chargeByReentrantLock() {
+        return pointService.chargeByReentrantLock(nextUserId(), ONE_POINT);
+    }
+
+    @Benchmark
+    public User useByReentrantLock() {
+        return pointService.useByReentrantLock(nextUserId(), ONE_POINT);
+    }
+
+    //비관락
+    @Benchmark
+    public User chargeByPessimisticLock() {
+        return pointService.chargeByPessimisticLock(nextUserId(), ONE_POINT);
+    }
+
+    @Benchmark
+    public User useByPessimisticLock() {
+        return pointService.useByPessimisticLock(nextUserId(), ONE_POINT);
+    }
+
+    //낙관락
+    @Benchmark
+    public User chargeByOptimisticLock() {
+        return pointService.chargeByOptimisticLock(nextUserId(), ONE_POINT);
+    }
+
+    @Benchmark
+    public User useByOptimisticLock() {
+        return pointService.useByOptimisticLock(nextUserId(), ONE_POINT);
+    }
+
+    //조건부 단일 UPDATE
+    @Benchmark
+    public User chargeByConditionalUpdate() {
+        return pointService.chargeByConditionalUpdate(nextUserId(), ONE_POINT);
+    }
+
+    @Benchmark
+    public User useByConditionalUpdate() {
+        return pointService.useByConditionalUpdate(nextUserId(), ONE_POINT);
+    }
+
+
+    @Threads(1)
+    public static class Threads1 extends PointServiceBenchmark {
+    }
+
+    @Threads(8)
+    public static class Threads8 extends PointServiceBenchmark {
+    }
+
+    @Threads(64)
+    public static class Threads64 extends PointServiceBenchmark {
+    }
+}
@@ -0,0 +1,35 @@
+package com.restapi.point.benchmark;
+
+import com.restapi.point.infrastructure.interceptor.UserIdParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+UserInterceptor 사용자 id 추출 비교 벤치마크
+
+- split   : 기존 방식 (requestURI.split("/") + Long.parseLong)
+- scan    : UserIdParser (인덱스 이동 + 직접 숫자 누적)
+- 할당량은 gc 프로파일러의 gc.alloc.rate.norm (B/op) 로 확인한다 : scan 은 0 이어야 한다
+
+실행 : ./gradlew jmh -Pjmh.includes=UserIdParseBenchmark
+*/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class UserIdParseBenchmark {
+
+    @Param({"/point/7", "/point/9223372036854775807/charge", "/point/1234567/histories/stream"})
+    public String requestURI;
+
+    @Benchmark
+    public long split() {
+        String[] uriParts = requestURI.split("/");
+        return Long.parseLong(uriParts[2]);
+    }
+
+    @Benchmark
+    public long scan() {
+        return UserIdParser.parse(requestURI);
+    }
+}
@@ -1,13 +1,22 @@
 package com.restapi.point;
 
+import com.restapi.point.application.command.OneShotCommand;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling //원장 모드 스냅샷 주기 갱신
 public class PointApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(PointApplication.class, args);
+		ConfigurableApplicationContext context = SpringApplication.run(PointApplication.class, args);
+
+		//일회성 명령으로 실행한 경우 (ex. --point.ledger.rebuild=true) : 명령이 끝나면 종료 코드와 함께 종료
+		if (!context.getBeansOfType(OneShotCommand.class).isEmpty()) {
+			System.exit(SpringApplication.exit(context));
+		}
 	}
 
 }
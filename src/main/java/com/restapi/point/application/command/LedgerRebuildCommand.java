@@ -0,0 +1,48 @@
+package com.restapi.point.application.command;
+
+import com.restapi.point.domain.service.PointLedgerService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/*
+원장 잔액 재구성 명령 : 모든 사용자의 잔액을 기초 잔액 + 내역으로 다시 계산하고 종료한다
+
+실행 : ./gradlew bootRun --args='--point.ledger.rebuild=true --point.ledger.rebuild-threads=8'
+종료 코드 : 성공 0 , 실패 1
+*/
+@Component
+@ConditionalOnProperty(prefix = "point.ledger" , name = "rebuild" , havingValue = "true")
+public class LedgerRebuildCommand implements OneShotCommand {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerRebuildCommand.class);
+
+    @Autowired
+    PointLedgerService pointLedgerService;
+
+    @Value("${point.ledger.rebuild-threads:8}")
+    int rebuildThreads;
+
+    private volatile int exitCode = 1;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long startedAt = System.currentTimeMillis();
+        try {
+            int rebuilt = pointLedgerService.rebuildAll(rebuildThreads);
+            log.info("원장 재구성 완료 : 사용자 {}명 , {}ms" , rebuilt , System.currentTimeMillis() - startedAt);
+            exitCode = 0;
+        } catch (RuntimeException e) {
+            log.error("원장 재구성 실패" , e);
+        }
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+}
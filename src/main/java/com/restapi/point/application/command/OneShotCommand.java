@@ -0,0 +1,13 @@
+package com.restapi.point.application.command;
+
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+
+/*
+한 번 실행하고 종료하는 명령 (ex. --point.ledger.rebuild=true)
+
+- 기동이 끝나면 ApplicationRunner 로 실행되고 , 결과는 종료 코드(ExitCodeGenerator)로 남긴다.
+- 이 빈이 등록된 경우 PointApplication.main 이 SpringApplication.exit 로 종료 코드와 함께 종료한다.
+*/
+public interface OneShotCommand extends ApplicationRunner , ExitCodeGenerator {
+}
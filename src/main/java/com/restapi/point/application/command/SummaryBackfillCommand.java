@@ -0,0 +1,48 @@
+package com.restapi.point.application.command;
+
+import com.restapi.point.domain.service.PointSummaryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/*
+내역 집계 백필 명령 : 기존 point_history 로 모든 사용자의 point_summary 를 다시 계산하고 종료한다
+
+실행 : ./gradlew bootRun --args='--point.summary.backfill=true --point.summary.backfill-threads=8'
+종료 코드 : 성공 0 , 실패 1
+*/
+@Component
+@ConditionalOnProperty(prefix = "point.summary" , name = "backfill" , havingValue = "true")
+public class SummaryBackfillCommand implements OneShotCommand {
+
+    private static final Logger log = LoggerFactory.getLogger(SummaryBackfillCommand.class);
+
+    @Autowired
+    PointSummaryService pointSummaryService;
+
+    @Value("${point.summary.backfill-threads:8}")
+    int backfillThreads;
+
+    private volatile int exitCode = 1;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long startedAt = System.currentTimeMillis();
+        try {
+            int rebuilt = pointSummaryService.rebuildAll(backfillThreads);
+            log.info("내역 집계 백필 완료 : 사용자 {}명 , {}ms" , rebuilt , System.currentTimeMillis() - startedAt);
+            exitCode = 0;
+        } catch (RuntimeException e) {
+            log.error("내역 집계 백필 실패" , e);
+        }
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+}
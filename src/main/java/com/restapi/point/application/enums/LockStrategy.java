@@ -0,0 +1,12 @@
+package com.restapi.point.application.enums;
+
+//포인트 충전/사용 시 적용할 동시성 제어 방식 (point.lock.strategy)
+public enum LockStrategy {
+    SYNCHRONIZED ,
+    REENTRANT_LOCK ,
+    PESSIMISTIC_LOCK ,
+    OPTIMISTIC_LOCK ,
+    CONDITIONAL_UPDATE ,
+    MAILBOX ,
+    LEDGER //point_history 를 원본으로 하는 원장 모드 (users 행 UPDATE 없음)
+}
@@ -8,6 +8,8 @@ public enum Messages {
 
     SEARCH_SUCCESS("조회완료") ,
     POINT_HISTORY_SEARCH_SUCCESS("포인트 이력 조회 완료") ,
+    BATCH_SUCCESS("일괄 처리 완료") ,
+    SUMMARY_SEARCH_SUCCESS("포인트 요약 조회 완료") ,
 
     //오류 케이스
     MUST_UPPER_ONE_POINT_CHARGE("1원 이상 충전가능합니다."),
@@ -18,7 +20,25 @@ public enum Messages {
 
     LACK_POINT("잔액이 부족합니다.") ,
 
-    NO_USER("없는 사용자입니다")
+    NO_USER("없는 사용자입니다") ,
+
+    CONCURRENT_UPDATE_CONFLICT("동시 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도하세요.") ,
+
+    BATCH_ROLLED_BACK("실패한 명령이 있어 전체 취소되었습니다.") ,
+
+    IDEMPOTENCY_KEY_REUSED("같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다.") ,
+
+    LOCK_TIMEOUT("같은 사용자의 요청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도하세요.") ,
+
+    ADMISSION_REJECTED("처리 중인 요청이 너무 많습니다. 잠시 후 다시 시도하세요.") ,
+
+    STRIPED_ACCOUNT_NOT_SUPPORTED("분할 잔액 계정은 일괄 처리할 수 없습니다.") ,
+
+    MAILBOX_FULL("처리 대기 중인 요청이 너무 많습니다. 잠시 후 다시 시도하세요.") ,
+
+    BATCH_DISABLED("일괄 처리 API 를 사용할 수 없는 설정입니다.") ,
+
+    BATCH_USER_FAILED("이 사용자의 명령을 처리하지 못해 취소되었습니다. 잠시 후 다시 시도하세요.")
 
 
     ;
@@ -7,13 +7,16 @@ import lombok.Getter;
 public class BusinessException extends RuntimeException {
 
     private int errorCode;
+    private final Messages reason; //거절 사유 (지표 태그 등 코드 단위 집계용)
 
     public BusinessException(Messages message) {
         super(message.toString());
+        this.reason = message;
     }
 
     public BusinessException(int errorCode , Messages message) {
         super(message.toString());
         this.errorCode = errorCode;
+        this.reason = message;
     }
 }
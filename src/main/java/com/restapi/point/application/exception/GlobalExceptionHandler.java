@@ -1,18 +1,29 @@
 package com.restapi.point.application.exception;
 
+import com.restapi.point.application.enums.Messages;
 import com.restapi.point.presentation.dto.ResponseDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.server.MethodNotAllowedException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    //429 (락 대기 시간 초과 등) 응답에 재시도 간격(초)을 알려준다
+    @Value("${point.lock.retry-after-seconds:1}")
+    long retryAfterSeconds;
+
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<ResponseDTO<Void>> handleBusinessException(BusinessException ex) {
         ResponseDTO<Void> response = new ResponseDTO<Void>(ex.getErrorCode() , ex.getMessage());
-        System.out.println(ex.getMessage());
+        if(ex.getErrorCode() == 429) {
+            return ResponseEntity.status(429).header(HttpHeaders.RETRY_AFTER , String.valueOf(retryAfterSeconds)).body(response);
+        }
         return ResponseEntity.status(ex.getErrorCode()).body(response);
     }
 
@@ -27,4 +38,11 @@ public class GlobalExceptionHandler {
         ResponseDTO<Void> response = new ResponseDTO<>(405 , "정당한 URL 요청이 아닙니다.");
         return ResponseEntity.status(405).body(response);
     }
+
+    //파라미터 누락 , 숫자가 아닌 파라미터 (ex. /point?ids=abc)
+    @ExceptionHandler({MissingServletRequestParameterException.class , MethodArgumentTypeMismatchException.class})
+    public ResponseEntity<ResponseDTO<Void>> handleBadParameterException(Exception ex) {
+        ResponseDTO<Void> response = new ResponseDTO<>(400 , Messages.BAD_REQUEST.toString());
+        return ResponseEntity.status(400).body(response);
+    }
 }
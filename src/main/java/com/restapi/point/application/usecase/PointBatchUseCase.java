@@ -0,0 +1,236 @@
+package com.restapi.point.application.usecase;
+
+import com.restapi.point.application.enums.Messages;
+import com.restapi.point.application.exception.BusinessException;
+import com.restapi.point.domain.model.PointHistory;
+import com.restapi.point.domain.model.User;
+import com.restapi.point.domain.service.PointHistoryRecorder;
+import com.restapi.point.domain.service.PointStripeService;
+import com.restapi.point.infrastructure.admission.UserAdmissionControl;
+import com.restapi.point.infrastructure.metrics.PointMetrics;
+import com.restapi.point.infrastructure.repository.UserRepository;
+import com.restapi.point.presentation.dto.BatchCommandDTO;
+import com.restapi.point.presentation.dto.BatchRequestDTO;
+import com.restapi.point.presentation.dto.BatchResultDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/*
+충전/사용 명령 일괄 처리
+
+1. 명령을 사용자별로 묶고 사용자 id 오름차순으로 비관락을 건다. (배치끼리 서로 교착되지 않도록 락 순서 고정 , 락 대기는 point.lock.timeout-millis 까지)
+   단건 API 가 JVM 락만 쓰는 방식(SYNCHRONIZED , REENTRANT_LOCK)에서는 행 락끼리 직렬화되지 않으므로 꺼야 한다. (PointStrategyConfig 가 기동 시 검증)
+2. 같은 사용자의 명령은 요청 순서대로 적용한다.
+3. 내역은 모아서 한 번에 저장한다. (JDBC 배치 INSERT + 사용자별 집계 누적)
+4. 사용자별 처리 중 요청 수 한도(point.admission.max-in-flight)에 찬 사용자의 명령은 ADMISSION_REJECTED 로 실패 처리한다.
+5. atomic = true 이면 한 트랜잭션으로 처리하고 하나라도 실패 시 전체 롤백 (락 대기 초과 / DB 오류면 요청 전체가 실패)
+   false 이면 사용자별로 따로 커밋한다. 명령 검증에 실패한 명령만 빠지고 , 락 대기 초과 / DB 오류는 그 사용자의 명령만 실패한다.
+*/
+@Component
+public class PointBatchUseCase {
+
+    public static final int MAX_COMMANDS = 1000;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    PointHistoryRecorder pointHistoryRecorder;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    //분할 잔액 계정은 users.point 가 잔액이 아니므로 일괄 처리 대상에서 제외
+    @Autowired
+    PointStripeService pointStripeService;
+
+    @Autowired
+    PointMetrics pointMetrics;
+
+    //단건 충전/사용과 같은 사용자별 처리 중 요청 수 한도를 적용 (배치 하나가 사용자마다 한 건)
+    @Autowired
+    UserAdmissionControl userAdmissionControl;
+
+    //원장 모드 , JVM 락 방식에서는 꺼야 한다 (PointStrategyConfig 가 기동 시 검증)
+    @Value("${point.batch.enabled:true}")
+    boolean batchEnabled = true;
+
+    //일괄 처리는 항상 사용자 행 비관락으로 처리한다
+    public List<BatchResultDTO> execute(BatchRequestDTO batchRequestDTO) {
+        return pointMetrics.timeOperation("batch" , "PESSIMISTIC_LOCK" , () -> executeBatch(batchRequestDTO));
+    }
+
+    private List<BatchResultDTO> executeBatch(BatchRequestDTO batchRequestDTO) {
+        if(!batchEnabled) throw new BusinessException(400 , Messages.BATCH_DISABLED);
+
+        List<BatchCommandDTO> commands = batchRequestDTO.getCommands();
+        if(commands == null || commands.isEmpty() || commands.size() > MAX_COMMANDS) throw new BusinessException(400 , Messages.BAD_REQUEST);
+        //명령 자리에 null 이 온 경우 (ex. "commands": [null]) : 명령별 결과를 만들 수 없으므로 요청 전체를 거절
+        for(BatchCommandDTO command : commands) {
+            if(command == null) throw new BusinessException(400 , Messages.BAD_REQUEST);
+        }
+
+        Map<Long , List<Integer>> indexesByUser = new TreeMap<>();
+        for(int i = 0 ; i < commands.size() ; i++) {
+            indexesByUser.computeIfAbsent(commands.get(i).getUserId() , id -> new ArrayList<>()).add(i);
+        }
+
+        //트랜잭션(커넥션)을 시작하기 전에 사용자별 처리 중 요청 수 한도를 확인 , 한도에 찬 사용자의 명령은 실패로 돌려준다
+        Set<Long> admitted = admit(indexesByUser.keySet());
+        BatchResultDTO[] results = new BatchResultDTO[commands.size()];
+        try {
+            if(batchRequestDTO.isAtomic()) {
+                executeAtomic(indexesByUser , admitted , commands , results);
+            } else {
+                executePerUser(indexesByUser , admitted , commands , results);
+            }
+        } finally {
+            for(long userId : admitted) {
+                userAdmissionControl.release(userId);
+            }
+        }
+
+        if(batchRequestDTO.isAtomic() && hasFailure(results)) markRolledBack(results);
+        return Arrays.asList(results);
+    }
+
+    //atomic = true : 한 트랜잭션 , 명령 실패 시 전체 롤백 (락 대기 초과 / DB 오류도 전체 실패)
+    private void executeAtomic(Map<Long , List<Integer>> indexesByUser , Set<Long> admitted , List<BatchCommandDTO> commands , BatchResultDTO[] results) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<PointHistory> pointHistories = new ArrayList<>();
+            for(Map.Entry<Long , List<Integer>> entry : indexesByUser.entrySet()) {
+                applyUser(entry.getKey() , entry.getValue() , admitted , commands , results , pointHistories);
+            }
+
+            if(hasFailure(results)) {
+                status.setRollbackOnly();
+                return;
+            }
+            pointHistoryRecorder.recordAll(pointHistories);
+        });
+    }
+
+    //atomic = false : 사용자별로 따로 커밋 , 한 사용자의 락 대기 초과 / DB 오류는 그 사용자의 명령만 실패시킨다
+    private void executePerUser(Map<Long , List<Integer>> indexesByUser , Set<Long> admitted , List<BatchCommandDTO> commands , BatchResultDTO[] results) {
+        for(Map.Entry<Long , List<Integer>> entry : indexesByUser.entrySet()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    List<PointHistory> pointHistories = new ArrayList<>();
+                    applyUser(entry.getKey() , entry.getValue() , admitted , commands , results , pointHistories);
+                    pointHistoryRecorder.recordAll(pointHistories);
+                });
+            } catch (BusinessException e) {
+                reject(entry.getValue() , commands , results , e.getReason());
+            } catch (DataAccessException e) {
+                reject(entry.getValue() , commands , results , Messages.BATCH_USER_FAILED);
+            }
+        }
+    }
+
+    //한 사용자의 명령을 요청 순서대로 적용 (호출하는 쪽 트랜잭션에서 실행)
+    private void applyUser(long userId , List<Integer> indexes , Set<Long> admitted , List<BatchCommandDTO> commands ,
+                           BatchResultDTO[] results , List<PointHistory> pointHistories) {
+        if(pointStripeService.isHot(userId)) {
+            reject(indexes , commands , results , Messages.STRIPED_ACCOUNT_NOT_SUPPORTED);
+            return;
+        }
+        if(!admitted.contains(userId)) {
+            reject(indexes , commands , results , Messages.ADMISSION_REJECTED);
+            return;
+        }
+
+        Optional<User> user = findUserForUpdate(userId);
+        for(int index : indexes) {
+            results[index] = apply(index , commands.get(index) , user , pointHistories);
+        }
+    }
+
+    //분할 잔액 계정은 어차피 거절하므로 한도를 잡지 않는다
+    private Set<Long> admit(Set<Long> userIds) {
+        Set<Long> admitted = new HashSet<>();
+        for(long userId : userIds) {
+            if(pointStripeService.isHot(userId)) continue;
+            try {
+                userAdmissionControl.acquire(userId);
+                admitted.add(userId);
+            } catch (BusinessException e) {
+                //한도 초과 : 이 사용자의 명령만 ADMISSION_REJECTED
+            }
+        }
+        return admitted;
+    }
+
+    private void reject(List<Integer> indexes , List<BatchCommandDTO> commands , BatchResultDTO[] results , Messages reason) {
+        for(int index : indexes) {
+            BatchCommandDTO command = commands.get(index);
+            results[index] = new BatchResultDTO(index , command.getUserId() , command.getOp() , false , null , reason.toString());
+        }
+    }
+
+    //행 락 대기가 point.lock.timeout-millis 를 넘으면 LOCK_TIMEOUT(429) : atomic 이면 배치 전체 , 아니면 그 사용자의 명령만 실패
+    private Optional<User> findUserForUpdate(long userId) {
+        try {
+            return userRepository.findByIdForUpdate(userId);
+        } catch (PessimisticLockingFailureException e) {
+            throw new BusinessException(429 , Messages.LOCK_TIMEOUT);
+        }
+    }
+
+    private BatchResultDTO apply(int index , BatchCommandDTO command , Optional<User> user , List<PointHistory> pointHistories) {
+        Messages failure = validate(command , user);
+        if(failure != null) return new BatchResultDTO(index , command.getUserId() , command.getOp() , false , null , failure.toString());
+
+        User target = user.get();
+        if(BatchCommandDTO.CHARGE.equals(command.getOp())) {
+            target.setPoint(target.getPoint() + command.getPoint());
+            pointHistories.add(new PointHistory(target.getUserId() , command.getPoint() , "충전"));
+            return new BatchResultDTO(index , command.getUserId() , command.getOp() , true , target.getPoint() , Messages.CHARGE_SUCCESS.toString());
+        }
+        target.setPoint(target.getPoint() - command.getPoint());
+        pointHistories.add(new PointHistory(target.getUserId() , command.getPoint() , "사용"));
+        return new BatchResultDTO(index , command.getUserId() , command.getOp() , true , target.getPoint() , Messages.USE_SUCCESS.toString());
+    }
+
+    //단건 충전/사용과 같은 검증 규칙
+    private Messages validate(BatchCommandDTO command , Optional<User> user) {
+        boolean charge = BatchCommandDTO.CHARGE.equals(command.getOp());
+        boolean use = BatchCommandDTO.USE.equals(command.getOp());
+
+        if(!charge && !use) return Messages.BAD_REQUEST;
+        if(charge && command.getPoint() <= 0) return Messages.MUST_UPPER_ONE_POINT_CHARGE;
+        if(use && command.getPoint() <= 0) return Messages.MUST_UPPER_ONE_POINT_USE;
+        if(user.isEmpty()) return Messages.NO_USER;
+        if(use && user.get().getPoint() - command.getPoint() < 0) return Messages.LACK_POINT;
+        return null;
+    }
+
+    private boolean hasFailure(BatchResultDTO[] results) {
+        for(BatchResultDTO result : results) {
+            if(!result.isSuccess()) return true;
+        }
+        return false;
+    }
+
+    //전체 취소된 경우 성공했던 명령도 실패로 돌려준다 (잔액은 반영되지 않음)
+    private void markRolledBack(BatchResultDTO[] results) {
+        for(BatchResultDTO result : results) {
+            if(!result.isSuccess()) continue;
+            result.setSuccess(false);
+            result.setPoint(null);
+            result.setMessage(Messages.BATCH_ROLLED_BACK.toString());
+        }
+    }
+}
@@ -1,33 +1,123 @@
 package com.restapi.point.application.usecase;
 
-import com.restapi.point.domain.model.PointHistory;
+import com.restapi.point.application.enums.LockStrategy;
 import com.restapi.point.domain.model.User;
+import com.restapi.point.domain.service.PointChargeGroupCommitter;
+import com.restapi.point.domain.service.PointLedgerService;
 import com.restapi.point.domain.service.PointService;
-import com.restapi.point.infrastructure.repository.PointRepository;
+import com.restapi.point.domain.service.PointStripeService;
+import com.restapi.point.infrastructure.admission.UserAdmissionControl;
+import com.restapi.point.infrastructure.concurrent.Futures;
+import com.restapi.point.infrastructure.idempotency.IdempotencyStore;
+import com.restapi.point.infrastructure.mailbox.UserMailboxExecutor;
+import com.restapi.point.infrastructure.metrics.PointMetrics;
 import com.restapi.point.presentation.dto.RequestDTO;
 import jakarta.persistence.Column;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
 @Component
 public class PointChargeUseCase {
 
     //1. 포인트 충전
     //2. 포인트 내역 추가
+    // -> 두 작업은 PointService 의 각 동시성 제어 방식 안에서 한 트랜잭션으로 커밋된다
     @Autowired
     PointService pointService;
 
     @Autowired
-    PointRepository pointRepository;
+    PointLedgerService pointLedgerService;
+
+    //원장 모드의 비동기 요청도 사용자 메일박스에서 처리한다 (요청 스레드를 막지 않도록)
+    @Autowired
+    UserMailboxExecutor userMailboxExecutor;
+
+    //요청이 몰리는 계정은 동시성 제어 방식과 관계없이 분할 잔액(스트라이프)으로 처리
+    @Autowired
+    PointStripeService pointStripeService;
+
+    @Autowired
+    IdempotencyStore idempotencyStore;
 
+    @Autowired
+    PointMetrics pointMetrics;
+
+    //사용자별 처리 중 요청 수 제한 (한도를 넘으면 락을 기다리지 않고 바로 429)
+    @Autowired
+    UserAdmissionControl userAdmissionControl;
+
+    //동시성 제어 방식 선택 (기본 : 비관락)
+    @Value("${point.lock.strategy:PESSIMISTIC_LOCK}")
+    LockStrategy lockStrategy;
+
+    //같은 사용자의 동시 충전을 묶어서 반영 (잔액 갱신 + 내역 추가를 한 번에 커밋)
+    @Autowired
+    PointChargeGroupCommitter pointChargeGroupCommitter;
+
+    @Value("${point.charge.group-commit.enabled:false}")
+    boolean groupCommitEnabled;
+
+    //Idempotency-Key 가 있는 요청 : 같은 키의 재시도는 다시 실행하지 않고 처음 결과를 돌려준다
+    // - 처리 중 요청 수 제한을 먼저 통과해야 멱등 저장소에 들어간다 (한도 초과로 거절된 요청은 키를 차지하지 않는다)
+    public User charge(long userId , RequestDTO requestDTO , String idempotencyKey) {
+        String key = IdempotencyStore.scopedKey("charge" , userId , idempotencyKey);
+        return chargeAdmitted(userId , () -> idempotencyStore.execute(key , requestDTO.getPoint() , () -> chargeByStrategy(userId , requestDTO)));
+    }
 
     public User charge(long userId , RequestDTO requestDTO) {
-        User user = pointService.chargeByPessimisticLock(userId , requestDTO);
-        pointRepository.save(new PointHistory(userId , requestDTO.getPoint() , "충전"));
-        return user;
+        return chargeAdmitted(userId , () -> chargeByStrategy(userId , requestDTO));
+    }
+
+    //처리 시간 기록 -> 처리 중 요청 수 제한 -> 처리
+    private User chargeAdmitted(long userId , Supplier<User> action) {
+        String strategy = pointStripeService.isHot(userId) ? "STRIPED" : groupCommitEnabled ? "GROUP_COMMIT" : lockStrategy.name();
+        return pointMetrics.timeOperation("charge" , strategy , () -> userAdmissionControl.admit(userId , action));
+    }
+
+    private User chargeByStrategy(long userId , RequestDTO requestDTO) {
+        if(pointStripeService.isHot(userId)) return pointStripeService.charge(userId , requestDTO);
+        if(groupCommitEnabled) return Futures.join(pointChargeGroupCommitter.charge(userId , requestDTO));
+
+        return switch (lockStrategy) {
+            case SYNCHRONIZED -> pointService.chargeBySynchronized(userId , requestDTO);
+            case REENTRANT_LOCK -> pointService.chargeByReentrantLock(userId , requestDTO);
+            case PESSIMISTIC_LOCK -> pointService.chargeByPessimisticLock(userId , requestDTO);
+            case OPTIMISTIC_LOCK -> pointService.chargeByOptimisticLock(userId , requestDTO);
+            case CONDITIONAL_UPDATE -> pointService.chargeByConditionalUpdate(userId , requestDTO);
+            case MAILBOX -> Futures.join(pointService.chargeByMailbox(userId , requestDTO));
+            case LEDGER -> pointLedgerService.charge(userId , requestDTO);
+        };
+    }
+
+    //요청 스레드를 막지 않는 경로 : 사용자 메일박스에서 잔액 변경과 내역 추가를 함께 처리한다
+    public CompletableFuture<User> chargeAsync(long userId , RequestDTO requestDTO) {
+        String strategy = pointStripeService.isHot(userId) ? "STRIPED" : lockStrategy == LockStrategy.LEDGER ? "LEDGER" : "MAILBOX";
+        return pointMetrics.timeAsyncOperation("charge_async" , strategy , () -> chargeAsyncByStrategy(userId , requestDTO));
+    }
+
+    private CompletableFuture<User> chargeAsyncByStrategy(long userId , RequestDTO requestDTO) {
+        userAdmissionControl.acquire(userId);
+        try {
+            CompletableFuture<User> future;
+            if(pointStripeService.isHot(userId)) {
+                future = CompletableFuture.completedFuture(pointStripeService.charge(userId , requestDTO)); //스트라이프 계정은 기다릴 락이 없으므로 바로 처리
+            } else if(lockStrategy == LockStrategy.LEDGER) {
+                future = userMailboxExecutor.submit(userId , () -> pointLedgerService.charge(userId , requestDTO)); //원장 모드는 users.point 가 잔액이 아니다
+            } else {
+                future = pointService.chargeByMailbox(userId , requestDTO);
+            }
+            return future.whenComplete((user , e) -> userAdmissionControl.release(userId));
+        } catch (RuntimeException e) {
+            userAdmissionControl.release(userId);
+            throw e;
+        }
     }
 
 }
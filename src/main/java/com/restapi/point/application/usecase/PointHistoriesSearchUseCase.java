@@ -1,18 +1,117 @@
 package com.restapi.point.application.usecase;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restapi.point.application.enums.Messages;
+import com.restapi.point.application.exception.BusinessException;
 import com.restapi.point.domain.model.PointHistory;
+import com.restapi.point.domain.model.PointSummary;
 import com.restapi.point.domain.service.PointService;
+import com.restapi.point.domain.service.UserService;
+import com.restapi.point.infrastructure.metrics.PointMetrics;
 import com.restapi.point.infrastructure.repository.PointRepository;
+import com.restapi.point.infrastructure.repository.PointSummaryRepository;
+import com.restapi.point.infrastructure.repository.PointSummaryStripeRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Component
 public class PointHistoriesSearchUseCase {
+
+    public static final int DEFAULT_PAGE_LIMIT = 100;
+    public static final int MAX_PAGE_LIMIT = 1000;
+
+    private static final byte LINE_SEPARATOR = '\n';
+
     @Autowired
     PointService pointService ;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    PointRepository pointRepository;
+
+    @Autowired
+    PointSummaryRepository pointSummaryRepository;
+
+    @Autowired
+    PointSummaryStripeRepository pointSummaryStripeRepository;
+
+    @Autowired
+    PointMetrics pointMetrics;
+
+    @PersistenceContext
+    EntityManager entityManager;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
     public List<PointHistory> getPointHistoriesById(long userId) {
-        return pointService.getPointHistoriesById(userId);
+        return pointMetrics.timeOperation("histories" , PointMetrics.NO_STRATEGY , () -> pointService.getPointHistoriesById(userId));
+    }
+
+    //키셋 페이지 조회 : afterId 이후 내역을 id 순으로 최대 limit 건 (afterId = 마지막으로 받은 내역 id 이면 신규 내역만 조회)
+    public List<PointHistory> getPointHistoriesAfter(long userId , long afterId , int limit) {
+        return pointMetrics.timeOperation("histories_page" , PointMetrics.NO_STRATEGY , () -> {
+            if(afterId < 0 || limit <= 0) throw new BusinessException(400 , Messages.BAD_REQUEST);
+            return pointService.getPointHistoriesAfter(userId , afterId , Math.min(limit , MAX_PAGE_LIMIT));
+        });
+    }
+
+    //내역 요약 : 내역 추가 시 누적된 집계 행 + 분할 잔액 계정의 집계 스트라이프 합계 (내역이 없으면 0)
+    public PointSummary getPointSummary(long userId) {
+        return pointMetrics.timeOperation("summary" , PointMetrics.NO_STRATEGY , () -> {
+            validateUser(userId);
+            PointSummary summary = pointSummaryRepository.findById(userId).orElseGet(() -> new PointSummary(userId , 0 , 0 , 0 , null));
+            PointSummaryStripeRepository.StripedTotals striped = pointSummaryStripeRepository.sumByUserId(userId);
+            if(striped.getCount() == 0) return summary;
+
+            //조회한 엔티티를 고치지 않고 새로 만든다 (영속성 컨텍스트에 변경이 남지 않도록)
+            LocalDateTime lastActivityAt = summary.getLastActivityAt();
+            if(lastActivityAt == null || (striped.getLastActivityAt() != null && striped.getLastActivityAt().isAfter(lastActivityAt))) {
+                lastActivityAt = striped.getLastActivityAt();
+            }
+            return new PointSummary(userId , summary.getTotalCharged() + striped.getCharged() , summary.getTotalUsed() + striped.getUsed() ,
+                    summary.getTransactionCount() + striped.getCount() , lastActivityAt);
+        });
+    }
+
+    //스트리밍 전 사용자 검증 (응답 헤더가 나가기 전에 오류를 돌려주기 위함)
+    public void validateUser(long userId) {
+        if(!userService.isUserExists(userId)) throw new BusinessException(400 , Messages.NO_USER);
+    }
+
+    //전체 내역을 NDJSON(한 줄에 내역 1건)으로 출력 : 목록을 만들지 않고 읽는 즉시 쓰고 영속성 컨텍스트에서 분리한다
+    public void exportPointHistories(long userId , OutputStream outputStream) {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<PointHistory> pointHistories = pointRepository.streamByUserId(userId)) {
+                pointHistories.forEach(pointHistory -> {
+                    try {
+                        outputStream.write(objectMapper.writeValueAsBytes(pointHistory));
+                        outputStream.write(LINE_SEPARATOR);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    entityManager.detach(pointHistory);
+                });
+            }
+        });
     }
 }
@@ -1,23 +1,116 @@
 package com.restapi.point.application.usecase;
 
+import com.restapi.point.application.enums.LockStrategy;
+import com.restapi.point.application.enums.Messages;
+import com.restapi.point.application.exception.BusinessException;
 import com.restapi.point.domain.model.PointHistory;
 import com.restapi.point.domain.model.User;
+import com.restapi.point.domain.service.PointLedgerService;
 import com.restapi.point.domain.service.PointService;
+import com.restapi.point.domain.service.PointStripeService;
+import com.restapi.point.infrastructure.cache.PointBalanceCache;
+import com.restapi.point.infrastructure.metrics.PointMetrics;
 import com.restapi.point.infrastructure.repository.PointRepository;
+import com.restapi.point.presentation.dto.PointBalanceDTO;
 import com.restapi.point.presentation.dto.RequestDTO;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 @Component
 public class PointSearchUseCase {
 
+    public static final int MAX_BULK_IDS = 10000; //한 요청에서 조회할 수 있는 최대 사용자 수
+
     @Autowired
     PointService pointService;
 
     @Autowired
     PointRepository pointRepository;
 
+    @Autowired
+    PointBalanceCache pointBalanceCache;
+
+    @Autowired
+    PointMetrics pointMetrics;
+
+    //원장 모드에서는 users.point 가 아니라 스냅샷 + 이후 내역으로 잔액을 계산한다
+    @Autowired
+    PointLedgerService pointLedgerService;
+
+    @Value("${point.lock.strategy:PESSIMISTIC_LOCK}")
+    LockStrategy lockStrategy;
+
+    //분할 잔액 계정 : 스트라이프 합계 (스트라이프 단위로 바뀌므로 캐시하지 않는다)
+    @Autowired
+    PointStripeService pointStripeService;
+
+    //캐시에 없을 때만 DB 조회 (충전/사용 경로에서 커밋 후 바로 갱신된다)
     public long getPointById(long userId) {
-        return pointService.getPointById(userId);
+        return pointMetrics.timeOperation("balance" , lockStrategy.name() , () -> {
+            if(pointStripeService.isHot(userId)) return pointStripeService.getBalance(userId);
+            if(lockStrategy == LockStrategy.LEDGER) return pointBalanceCache.get(userId , pointLedgerService::getBalance);
+            return pointBalanceCache.get(userId , pointService::getPointById);
+        });
+    }
+
+    //여러 사용자 잔액 조회 : 캐시 미스만 DB 에서 한 번에 읽는다 , 요청 순서 유지 (중복 제거 , 없는 사용자는 제외)
+    public List<PointBalanceDTO> getPointsByIds(Collection<Long> userIds) {
+        return pointMetrics.timeOperation("balances" , lockStrategy.name() , () -> findPointsByIds(userIds));
+    }
+
+    private List<PointBalanceDTO> findPointsByIds(Collection<Long> userIds) {
+        if(userIds == null || userIds.isEmpty()) throw new BusinessException(400 , Messages.BAD_REQUEST);
+
+        Set<Long> ids = new LinkedHashSet<>(userIds);
+        if(ids.size() > MAX_BULK_IDS || ids.contains(null)) throw new BusinessException(400 , Messages.BAD_REQUEST);
+
+        Set<Long> cachedIds = new HashSet<>(ids);
+        cachedIds.removeIf(pointStripeService::isHot);
+
+        Map<Long , Long> points = pointBalanceCache.getAll(cachedIds , lockStrategy == LockStrategy.LEDGER ? this::getLedgerBalances : pointService::getPointsByIds);
+        if(cachedIds.size() < ids.size()) points.putAll(getStripedBalances(ids));
+        List<PointBalanceDTO> balances = new ArrayList<>(points.size());
+        for(long id : ids) {
+            Long point = points.get(id);
+            if(point != null) balances.add(new PointBalanceDTO(id , point));
+        }
+        return balances;
+    }
+
+    //원장 모드 여러 사용자 조회 : 사용자별 스냅샷 + 이후 내역 합계 ((user_id , id) 인덱스 범위 조회)
+    private Map<Long , Long> getLedgerBalances(Set<Long> userIds) {
+        Map<Long , Long> points = new HashMap<>();
+        for(long userId : userIds) {
+            try {
+                points.put(userId , pointLedgerService.getBalance(userId));
+            } catch (BusinessException e) {
+                //없는 사용자는 결과에서 제외
+            }
+        }
+        return points;
+    }
+
+    //분할 잔액 계정만 스트라이프 합계로 조회
+    private Map<Long , Long> getStripedBalances(Set<Long> userIds) {
+        Map<Long , Long> points = new HashMap<>();
+        for(long userId : userIds) {
+            if(!pointStripeService.isHot(userId)) continue;
+            try {
+                points.put(userId , pointStripeService.getBalance(userId));
+            } catch (BusinessException e) {
+                //없는 사용자는 결과에서 제외
+            }
+        }
+        return points;
     }
 }
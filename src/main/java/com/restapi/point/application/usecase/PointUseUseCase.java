@@ -1,28 +1,110 @@
 package com.restapi.point.application.usecase;
 
-import com.restapi.point.domain.model.PointHistory;
+import com.restapi.point.application.enums.LockStrategy;
 import com.restapi.point.domain.model.User;
+import com.restapi.point.domain.service.PointLedgerService;
 import com.restapi.point.domain.service.PointService;
-import com.restapi.point.infrastructure.repository.PointRepository;
+import com.restapi.point.domain.service.PointStripeService;
+import com.restapi.point.infrastructure.admission.UserAdmissionControl;
+import com.restapi.point.infrastructure.concurrent.Futures;
+import com.restapi.point.infrastructure.idempotency.IdempotencyStore;
+import com.restapi.point.infrastructure.mailbox.UserMailboxExecutor;
+import com.restapi.point.infrastructure.metrics.PointMetrics;
 import com.restapi.point.presentation.dto.RequestDTO;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
 @Component
 public class PointUseUseCase {
 
     //1. 포인트 사용
     //2. 포인트 내역 추가
+    // -> 두 작업은 PointService 의 각 동시성 제어 방식 안에서 한 트랜잭션으로 커밋된다
     @Autowired
     PointService pointService;
 
     @Autowired
-    PointRepository pointRepository;
+    PointLedgerService pointLedgerService;
+
+    //원장 모드의 비동기 요청도 사용자 메일박스에서 처리한다 (요청 스레드를 막지 않도록)
+    @Autowired
+    UserMailboxExecutor userMailboxExecutor;
+
+    //요청이 몰리는 계정은 동시성 제어 방식과 관계없이 분할 잔액(스트라이프)으로 처리
+    @Autowired
+    PointStripeService pointStripeService;
+
+    @Autowired
+    IdempotencyStore idempotencyStore;
+
+    @Autowired
+    PointMetrics pointMetrics;
+
+    //사용자별 처리 중 요청 수 제한 (한도를 넘으면 락을 기다리지 않고 바로 429)
+    @Autowired
+    UserAdmissionControl userAdmissionControl;
+
+    //동시성 제어 방식 선택 (기본 : 비관락)
+    @Value("${point.lock.strategy:PESSIMISTIC_LOCK}")
+    LockStrategy lockStrategy;
+
+    //Idempotency-Key 가 있는 요청 : 같은 키의 재시도는 다시 실행하지 않고 처음 결과를 돌려준다
+    // - 처리 중 요청 수 제한을 먼저 통과해야 멱등 저장소에 들어간다 (한도 초과로 거절된 요청은 키를 차지하지 않는다)
+    public User use(long userId , RequestDTO requestDTO , String idempotencyKey) {
+        String key = IdempotencyStore.scopedKey("use" , userId , idempotencyKey);
+        return useAdmitted(userId , () -> idempotencyStore.execute(key , requestDTO.getPoint() , () -> useByStrategy(userId , requestDTO)));
+    }
 
     public User use(long userId , RequestDTO requestDTO) {
-        User user = pointService.useByPessimisticLock(userId , requestDTO);
-        pointRepository.save(new PointHistory(userId , requestDTO.getPoint() , "사용"));
-        return user;
+        return useAdmitted(userId , () -> useByStrategy(userId , requestDTO));
+    }
+
+    //처리 시간 기록 -> 처리 중 요청 수 제한 -> 처리
+    private User useAdmitted(long userId , Supplier<User> action) {
+        String strategy = pointStripeService.isHot(userId) ? "STRIPED" : lockStrategy.name();
+        return pointMetrics.timeOperation("use" , strategy , () -> userAdmissionControl.admit(userId , action));
+    }
+
+    private User useByStrategy(long userId , RequestDTO requestDTO) {
+        if(pointStripeService.isHot(userId)) return pointStripeService.use(userId , requestDTO);
+
+        return switch (lockStrategy) {
+            case SYNCHRONIZED -> pointService.useBySynchronized(userId , requestDTO);
+            case REENTRANT_LOCK -> pointService.useByReentrantLock(userId , requestDTO);
+            case PESSIMISTIC_LOCK -> pointService.useByPessimisticLock(userId , requestDTO);
+            case OPTIMISTIC_LOCK -> pointService.useByOptimisticLock(userId , requestDTO);
+            case CONDITIONAL_UPDATE -> pointService.useByConditionalUpdate(userId , requestDTO);
+            case MAILBOX -> Futures.join(pointService.useByMailbox(userId , requestDTO));
+            case LEDGER -> pointLedgerService.use(userId , requestDTO);
+        };
+    }
+
+    //요청 스레드를 막지 않는 경로 : 사용자 메일박스에서 잔액 변경과 내역 추가를 함께 처리한다
+    public CompletableFuture<User> useAsync(long userId , RequestDTO requestDTO) {
+        String strategy = pointStripeService.isHot(userId) ? "STRIPED" : lockStrategy == LockStrategy.LEDGER ? "LEDGER" : "MAILBOX";
+        return pointMetrics.timeAsyncOperation("use_async" , strategy , () -> useAsyncByStrategy(userId , requestDTO));
+    }
+
+    private CompletableFuture<User> useAsyncByStrategy(long userId , RequestDTO requestDTO) {
+        userAdmissionControl.acquire(userId);
+        try {
+            CompletableFuture<User> future;
+            if(pointStripeService.isHot(userId)) {
+                future = CompletableFuture.completedFuture(pointStripeService.use(userId , requestDTO)); //스트라이프 계정은 기다릴 락이 없으므로 바로 처리
+            } else if(lockStrategy == LockStrategy.LEDGER) {
+                future = userMailboxExecutor.submit(userId , () -> pointLedgerService.use(userId , requestDTO)); //원장 모드는 users.point 가 잔액이 아니다
+            } else {
+                future = pointService.useByMailbox(userId , requestDTO);
+            }
+            return future.whenComplete((user , e) -> userAdmissionControl.release(userId));
+        } catch (RuntimeException e) {
+            userAdmissionControl.release(userId);
+            throw e;
+        }
     }
 
 }
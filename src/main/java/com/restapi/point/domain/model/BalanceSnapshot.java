@@ -0,0 +1,32 @@
+package com.restapi.point.domain.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+//원장 모드 잔액 스냅샷 : lastHistoryId 까지의 내역이 반영된 잔액 (이후 잔액 = point + 이후 내역 합계)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "point_balance_snapshot")
+public class BalanceSnapshot {
+
+    @Id
+    private long userId;
+    private long point;
+    private long lastHistoryId;
+
+    //기초 잔액 : 원장 모드로 처음 쓸 때의 users.point 와 그 시점 마지막 내역 id (내역 행이 없는 잔액 , 만든 뒤 바꾸지 않는다)
+    // - 재구성은 기초 잔액 + 이후 내역 합계로 다시 계산한다
+    // - null 이면 기초 잔액을 기록하기 전에 만든 스냅샷
+    private Long openingPoint;
+    private Long openingHistoryId;
+
+    public BalanceSnapshot(long userId , long point , long lastHistoryId) {
+        this(userId , point , lastHistoryId , point , lastHistoryId);
+    }
+}
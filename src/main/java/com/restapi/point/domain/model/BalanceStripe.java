@@ -0,0 +1,35 @@
+package com.restapi.point.domain.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+//분할 잔액(스트라이프) : 요청이 몰리는 계정의 잔액을 stripe 개 행으로 나눠 저장 (잔액 = 모든 스트라이프 합계)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@IdClass(BalanceStripe.Key.class)
+@Table(name = "point_balance_stripe")
+public class BalanceStripe {
+
+    @Id
+    private long userId;
+    @Id
+    private int stripe;
+    private long point;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private long userId;
+        private int stripe;
+    }
+}
@@ -9,11 +9,16 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name="point_history")
+@Table(name="point_history" , indexes = {
+        //사용자별 내역 조회 / 키셋 페이지 / 스트리밍 모두 (user_id , id) 순서로 읽는다 (실제 DDL 은 db/schema-index.sql)
+        @Index(name = "idx_point_history_user_id_id" , columnList = "USER_ID, id")
+})
 public class PointHistory {
 
+    //IDENTITY 는 INSERT 마다 키를 받아와야 해서 JDBC 배치가 꺼진다 -> 시퀀스를 allocationSize 만큼 미리 받아 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE , generator = "point_history_seq")
+    @SequenceGenerator(name = "point_history_seq" , sequenceName = "point_history_seq" , allocationSize = 50)
     private long id;
 
     @Column(name="USER_ID")
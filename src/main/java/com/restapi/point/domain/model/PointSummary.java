@@ -0,0 +1,26 @@
+package com.restapi.point.domain.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+//사용자별 내역 집계 : 내역이 추가될 때 같은 트랜잭션에서 누적한다 (조회 시 내역을 스캔하지 않음)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "point_summary")
+public class PointSummary {
+
+    @Id
+    private long userId;
+    private long totalCharged;
+    private long totalUsed;
+    private long transactionCount;
+    private LocalDateTime lastActivityAt; //마지막 충전/사용 시각 (내역이 없으면 null)
+}
@@ -0,0 +1,39 @@
+package com.restapi.point.domain.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+//분할 잔액 계정의 내역 집계 : 잔액 스트라이프와 같은 번호의 행에 누적 (요약 = point_summary + 모든 집계 스트라이프 합계)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@IdClass(PointSummaryStripe.Key.class)
+@Table(name = "point_summary_stripe")
+public class PointSummaryStripe {
+
+    @Id
+    private long userId;
+    @Id
+    private int stripe;
+    private long totalCharged;
+    private long totalUsed;
+    private long transactionCount;
+    private LocalDateTime lastActivityAt;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private long userId;
+        private int stripe;
+    }
+}
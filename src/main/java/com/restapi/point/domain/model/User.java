@@ -1,18 +1,22 @@
 package com.restapi.point.domain.model;
 
+import com.restapi.point.infrastructure.cache.UserBalanceCacheListener;
+import com.restapi.point.infrastructure.filter.UserExistenceFilterListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Id;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import lombok.RequiredArgsConstructor;
 
 @Data
 @AllArgsConstructor
 @NoArgsConstructor //JPA는 기본생성자를 사용한다
 @Entity
+@EntityListeners({UserBalanceCacheListener.class , UserExistenceFilterListener.class}) //잔액 캐시 write-through , 사용자 존재 필터 갱신
 @Table(name="users")
 public class User {
 
@@ -21,6 +25,18 @@ public class User {
     private long userId;
     private long point;
 
+    //낙관적 락 버전 : 잔액이 바뀔 때마다 1씩 증가 (기존 데이터는 0 부터 시작)
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
 
-}
+    public User(long userId , long point) {
+        this.userId = userId;
+        this.point = point;
+    }
 
+    //엔티티 저장(save) 경로로 변경되어도 버전을 올려 낙관적 락 경로와 충돌을 감지할 수 있게 한다
+    @PreUpdate
+    void increaseVersion() {
+        this.version++;
+    }
+}
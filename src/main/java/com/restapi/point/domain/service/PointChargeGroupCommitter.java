@@ -0,0 +1,167 @@
+package com.restapi.point.domain.service;
+
+import com.restapi.point.application.enums.Messages;
+import com.restapi.point.application.exception.BusinessException;
+import com.restapi.point.domain.model.PointHistory;
+import com.restapi.point.domain.model.User;
+import com.restapi.point.infrastructure.cache.PointBalanceCache;
+import com.restapi.point.infrastructure.repository.UserRepository;
+import com.restapi.point.presentation.dto.RequestDTO;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+같은 사용자에게 동시에 들어온 충전 요청을 묶어서 반영 (Group Commit)
+
+- 첫 요청이 도착하면 maxWaitMillis 동안 같은 사용자의 충전을 모은다.
+- maxBatchSize 에 도달하면 기다리지 않고 마지막으로 채운 요청 스레드가 바로 반영한다.
+- 잔액 UPDATE 1회 + 내역 INSERT 묶음을 하나의 트랜잭션으로 커밋한다.
+- 각 요청은 도착 순서 기준으로 "자신의 충전까지 반영된 잔액"을 돌려받는다.
+*/
+@Service
+public class PointChargeGroupCommitter {
+
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+    @Autowired
+    PointBalanceCache pointBalanceCache;
+    @Autowired
+    PointHistoryRecorder pointHistoryRecorder;
+
+    private final long maxWaitMillis;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService scheduler;
+
+    private final ConcurrentHashMap<Long, Batch> pendingBatches = new ConcurrentHashMap<>();
+
+    //묶음 크기 지표
+    private final LongAdder batchCount = new LongAdder();
+    private final LongAdder batchedChargeCount = new LongAdder();
+    private final AtomicInteger largestBatchSize = new AtomicInteger();
+
+    public PointChargeGroupCommitter(@Value("${point.charge.group-commit.max-wait-millis:2}") long maxWaitMillis ,
+                                     @Value("${point.charge.group-commit.max-batch-size:8}") int maxBatchSize ,
+                                     @Value("${point.charge.group-commit.flush-threads:4}") int flushThreads) {
+        this.maxWaitMillis = maxWaitMillis;
+        this.maxBatchSize = maxBatchSize;
+        this.scheduler = Executors.newScheduledThreadPool(flushThreads);
+    }
+
+    public CompletableFuture<User> charge(long userId , RequestDTO requestDTO) {
+
+        //값 검증
+        if(requestDTO.getPoint() <= 0) throw new BusinessException(400 , Messages.MUST_UPPER_ONE_POINT_CHARGE);
+
+        PendingCharge charge = new PendingCharge(requestDTO.getPoint());
+        Batch[] opened = {null};
+        Batch[] filled = {null};
+
+        pendingBatches.compute(userId , (id , batch) -> {
+            if(batch == null) {
+                batch = new Batch();
+                opened[0] = batch;
+            }
+            batch.charges.add(charge);
+            if(batch.charges.size() >= maxBatchSize) {
+                filled[0] = batch;
+                return null; //다음 요청부터는 새 묶음
+            }
+            return batch;
+        });
+
+        if(filled[0] != null) {
+            flush(userId , filled[0]);
+        } else if(opened[0] != null) {
+            Batch batch = opened[0];
+            scheduler.schedule(() -> {
+                //이미 가득 차서 반영된 묶음이면 무시
+                if(pendingBatches.remove(userId , batch)) flush(userId , batch);
+            } , maxWaitMillis , TimeUnit.MILLISECONDS);
+        }
+        return charge.future;
+    }
+
+    private void flush(long userId , Batch batch) {
+        List<PendingCharge> charges = batch.charges;
+        long totalPoint = 0;
+        List<PointHistory> histories = new ArrayList<>(charges.size());
+        for(PendingCharge charge : charges) {
+            totalPoint += charge.point;
+            histories.add(new PointHistory(userId , charge.point , "충전"));
+        }
+
+        long chargeTotal = totalPoint;
+        Long afterPoint;
+        try {
+            afterPoint = transactionTemplate.execute(status -> {
+                long point = userRepository.chargePoint(userId , chargeTotal)
+                        .orElseThrow(() -> new BusinessException(400 , Messages.NO_USER));
+                pointBalanceCache.write(userId , point);
+                pointHistoryRecorder.recordAll(histories);
+                return point;
+            });
+        } catch (RuntimeException e) {
+            charges.forEach(charge -> charge.future.completeExceptionally(e));
+            return;
+        }
+
+        recordBatchSize(charges.size());
+
+        //묶음 반영 후 잔액에서 뒤에 도착한 충전분을 빼면 각 요청 시점의 잔액이 된다
+        long appliedPoint = afterPoint - chargeTotal;
+        for(PendingCharge charge : charges) {
+            appliedPoint += charge.point;
+            charge.future.complete(new User(userId , appliedPoint));
+        }
+    }
+
+    private void recordBatchSize(int size) {
+        batchCount.increment();
+        batchedChargeCount.add(size);
+        largestBatchSize.accumulateAndGet(size , Math::max);
+    }
+
+    public GroupCommitStats getStats() {
+        return new GroupCommitStats(batchCount.sum() , batchedChargeCount.sum() , largestBatchSize.get());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    //batches : 커밋된 묶음 수 , charges : 묶음으로 반영된 충전 요청 수 , largestBatchSize : 최대 묶음 크기
+    public record GroupCommitStats(long batches , long charges , int largestBatchSize) {
+        public double averageBatchSize() {
+            return batches == 0 ? 0 : (double) charges / batches;
+        }
+    }
+
+    private static class Batch {
+        private final List<PendingCharge> charges = new ArrayList<>(); //compute 안에서만 추가된다
+    }
+
+    private static class PendingCharge {
+        private final long point;
+        private final CompletableFuture<User> future = new CompletableFuture<>();
+
+        private PendingCharge(long point) {
+            this.point = point;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.restapi.point.domain.service;
+
+import com.restapi.point.domain.model.PointHistory;
+import com.restapi.point.infrastructure.jfr.PointDbCallEvent;
+import com.restapi.point.infrastructure.metrics.PointMetrics;
+import com.restapi.point.infrastructure.repository.PointRepository;
+import com.restapi.point.infrastructure.repository.PointSummaryRepository;
+import com.restapi.point.infrastructure.repository.PointSummaryStripeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+포인트 내역 기록 (내역 INSERT + 사용자별 집계 누적)
+
+- 내역을 추가하는 모든 경로는 여기를 거친다. (호출하는 쪽 트랜잭션에서 함께 커밋)
+- 집계는 사용자당 MERGE 1회로 누적한다. (여러 건을 한 번에 기록해도 사용자별로 묶어서 반영)
+- 호출하는 쪽은 이미 사용자 단위로 직렬화(행 락 / 사용자 락)된 상태이므로 집계 행에서 새로운 경합은 생기지 않는다.
+- 분할 잔액(스트라이프) 계정은 직렬화되지 않으므로 recordStriped 로 잔액 스트라이프와 같은 번호의 집계 스트라이프 행에 누적한다.
+  : 집계 행 하나에 커밋이 몰리지 않으면서 내역과 같은 트랜잭션에서 커밋된다. (요약 조회 = point_summary + 집계 스트라이프 합계)
+*/
+@Component
+public class PointHistoryRecorder {
+
+    @Autowired
+    PointRepository pointRepository;
+
+    @Autowired
+    PointSummaryRepository pointSummaryRepository;
+
+    @Autowired
+    PointSummaryStripeRepository pointSummaryStripeRepository;
+
+    @Autowired
+    PointMetrics pointMetrics;
+
+    public void record(long userId , long point , String type) {
+        recordAll(List.of(new PointHistory(userId , point , type)));
+    }
+
+    public void recordAll(List<PointHistory> pointHistories) {
+        if(pointHistories.isEmpty()) return;
+        pointMetrics.timeHistoryInsert(() -> insert(pointHistories));
+    }
+
+    private void insert(List<PointHistory> pointHistories) {
+        pointRepository.saveAll(pointHistories);
+
+        Map<Long , long[]> totals = new LinkedHashMap<>(); //사용자 id -> {충전 합계 , 사용 합계 , 건수}
+        for(PointHistory pointHistory : pointHistories) {
+            add(totals.computeIfAbsent(pointHistory.getUserId() , id -> new long[3]) , pointHistory.getPoint() , pointHistory.getType());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        totals.forEach((userId , total) -> {
+            PointDbCallEvent dbCall = PointDbCallEvent.begin(userId , "PointSummaryRepository.accumulate");
+            dbCall.end(pointSummaryRepository.accumulate(userId , total[0] , total[1] , total[2] , now));
+        });
+    }
+
+    //스트라이프 계정 : 내역 INSERT + 집계 스트라이프 누적 (호출하는 쪽 트랜잭션에서 함께 커밋)
+    public void recordStriped(long userId , int stripe , long point , String type) {
+        pointMetrics.timeHistoryInsert(() -> {
+            pointRepository.save(new PointHistory(userId , point , type));
+            long[] total = add(new long[3] , point , type);
+            pointSummaryStripeRepository.accumulate(userId , stripe , total[0] , total[1] , total[2] , LocalDateTime.now());
+        });
+    }
+
+    //스트라이프 해제 : 집계 스트라이프를 point_summary 로 합치고 지운다 (호출하는 쪽 트랜잭션에서 실행)
+    public void mergeStripedSummary(long userId) {
+        PointSummaryStripeRepository.StripedTotals striped = pointSummaryStripeRepository.sumByUserId(userId);
+        if(striped.getCount() == 0) return;
+        pointSummaryRepository.accumulate(userId , striped.getCharged() , striped.getUsed() , striped.getCount() , striped.getLastActivityAt());
+        pointSummaryStripeRepository.deleteByUserId(userId);
+    }
+
+    //집계를 전체 내역으로 다시 계산 (호출하는 쪽 트랜잭션에서 실행 , 원장 재구성 / 집계 백필에서 사용)
+    // - 전체 내역에 스트라이프 계정 내역도 들어 있으므로 집계 스트라이프는 지운다
+    public void rebuildSummary(long userId) {
+        pointSummaryRepository.rebuild(userId);
+        pointSummaryStripeRepository.deleteByUserId(userId);
+    }
+
+    private static long[] add(long[] total , long point , String type) {
+        if("사용".equals(type)) {
+            total[1] += point;
+        } else {
+            total[0] += point;
+        }
+        total[2]++;
+        return total;
+    }
+}
@@ -0,0 +1,209 @@
+package com.restapi.point.domain.service;
+
+import com.restapi.point.application.enums.LockStrategy;
+import com.restapi.point.application.enums.Messages;
+import com.restapi.point.application.exception.BusinessException;
+import com.restapi.point.domain.model.BalanceSnapshot;
+import com.restapi.point.domain.model.User;
+import com.restapi.point.infrastructure.cache.PointBalanceCache;
+import com.restapi.point.infrastructure.lock.UserLockManager;
+import com.restapi.point.infrastructure.repository.BalanceSnapshotRepository;
+import com.restapi.point.infrastructure.repository.PointRepository;
+import com.restapi.point.infrastructure.repository.UserRepository;
+import com.restapi.point.presentation.dto.RequestDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/*
+원장(ledger) 모드 : point_history 가 잔액의 원본 (point.lock.strategy=LEDGER)
+
+- 잔액 = 스냅샷 잔액 + 스냅샷 이후 내역 합계 (충전 + , 사용 -)
+- 충전/사용은 내역 INSERT 만 한다. (users 행 UPDATE 없음 -> 행 락 , 행 버전 경합 없음)
+- 같은 사용자의 쓰기는 사용자별 JVM 락(UserLockManager) 안에서 커밋까지 끝낸다.
+  : 잔액 부족 검증 , 시퀀스 id 순서와 커밋 순서 불일치로 스냅샷이 내역을 건너뛰는 문제를 막기 위함
+- 스냅샷이 없는 사용자는 첫 쓰기 때 users.point 와 그 시점 마지막 내역 id 로 만든다. (기존 모드에서 넘어오는 경우)
+- 스냅샷은 snapshot-every 건 이상 쌓인 사용자만 주기적으로 갱신한다.
+- 처음 만든 스냅샷의 잔액 / 마지막 내역 id 를 기초 잔액으로 따로 남긴다. (원장 모드 이전 잔액은 내역 행이 없다)
+- rebuildAll : 기초 잔액 + 내역으로 모든 사용자의 잔액을 병렬로 다시 계산해 스냅샷 , users.point , 내역 집계에 반영한다.
+*/
+@Service
+public class PointLedgerService {
+
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    PointRepository pointRepository;
+    @Autowired
+    BalanceSnapshotRepository balanceSnapshotRepository;
+    @Autowired
+    UserLockManager userLockManager;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+    @Autowired
+    PointBalanceCache pointBalanceCache;
+    @Autowired
+    PointHistoryRecorder pointHistoryRecorder;
+    @Autowired
+    PointStripeService pointStripeService;
+
+    @Value("${point.lock.strategy:PESSIMISTIC_LOCK}")
+    LockStrategy lockStrategy;
+
+    @Value("${point.ledger.snapshot-every:100}")
+    long snapshotEvery;
+
+    @Value("${point.lock.timeout-millis:3000}")
+    long lockTimeoutMillis;
+
+    public User charge(long userId , RequestDTO requestDTO) {
+
+        //값 검증
+        if(requestDTO.getPoint() <= 0) throw new BusinessException(400 , Messages.MUST_UPPER_ONE_POINT_CHARGE);
+
+        return append(userId , requestDTO.getPoint() , "충전");
+    }
+
+    public User use(long userId , RequestDTO requestDTO) {
+
+        //값 검증
+        if(requestDTO.getPoint() <= 0) throw new BusinessException(400 , Messages.MUST_UPPER_ONE_POINT_USE);
+
+        return append(userId , -requestDTO.getPoint() , "사용");
+    }
+
+    //현재 잔액 (스냅샷이 아직 없으면 users.point 가 그대로 잔액)
+    public long getBalance(long userId) {
+        Optional<BalanceSnapshot> snapshot = balanceSnapshotRepository.findById(userId);
+        if(snapshot.isEmpty()) {
+            return userRepository.findById(userId).orElseThrow(() -> new BusinessException(400 , Messages.NO_USER)).getPoint();
+        }
+        return snapshot.get().getPoint() + pointRepository.sumAfter(userId , snapshot.get().getLastHistoryId()).getDelta();
+    }
+
+    private User append(long userId , long delta , String type) {
+        if(!userLockManager.tryLock(userId , lockTimeoutMillis)) throw new BusinessException(429 , Messages.LOCK_TIMEOUT);
+        try {
+            return transactionTemplate.execute(status -> {
+                BalanceSnapshot snapshot = findOrCreateSnapshot(userId);
+                long afterPoint = snapshot.getPoint() + pointRepository.sumAfter(userId , snapshot.getLastHistoryId()).getDelta() + delta;
+                if(afterPoint < 0) throw new BusinessException(400 , Messages.LACK_POINT);
+
+                pointHistoryRecorder.record(userId , Math.abs(delta) , type);
+                pointBalanceCache.write(userId , afterPoint);
+                return new User(userId , afterPoint);
+            });
+        } finally {
+            userLockManager.unlock(userId);
+        }
+    }
+
+    private BalanceSnapshot findOrCreateSnapshot(long userId) {
+        return balanceSnapshotRepository.findById(userId).orElseGet(() -> {
+            User user = userRepository.findById(userId).orElseThrow(() -> new BusinessException(400 , Messages.NO_USER));
+            long lastHistoryId = pointRepository.sumAfter(userId , 0).getLastHistoryId();
+            return balanceSnapshotRepository.save(new BalanceSnapshot(userId , user.getPoint() , lastHistoryId));
+        });
+    }
+
+
+
+    //스냅샷 주기 갱신 (원장 모드일 때만)
+    @Scheduled(fixedDelayString = "${point.ledger.snapshot-interval-millis:60000}")
+    public void takeSnapshots() {
+        if(lockStrategy != LockStrategy.LEDGER) return;
+
+        for(long userId : balanceSnapshotRepository.findUserIdsNeedingSnapshot(snapshotEvery)) {
+            try {
+                snapshot(userId);
+            } catch (BusinessException e) {
+                //쓰기가 몰려 락을 얻지 못한 사용자는 다음 주기에 다시 시도
+            }
+        }
+    }
+
+    //스냅샷 이후 내역을 스냅샷에 합친다 (락 대기 제한 시간을 넘으면 LOCK_TIMEOUT(429))
+    public void snapshot(long userId) {
+        if(!userLockManager.tryLock(userId , lockTimeoutMillis)) throw new BusinessException(429 , Messages.LOCK_TIMEOUT);
+        try {
+            transactionTemplate.executeWithoutResult(status -> balanceSnapshotRepository.findById(userId).ifPresent(snapshot -> {
+                PointRepository.LedgerDelta ledgerDelta = pointRepository.sumAfter(userId , snapshot.getLastHistoryId());
+                snapshot.setPoint(snapshot.getPoint() + ledgerDelta.getDelta());
+                snapshot.setLastHistoryId(ledgerDelta.getLastHistoryId());
+            }));
+        } finally {
+            userLockManager.unlock(userId);
+        }
+    }
+
+
+
+    //전체 잔액 재구성 : 사용자별로 나눠 threads 개 스레드에서 병렬 처리 , 처리한 사용자 수 반환
+    public int rebuildAll(int threads) {
+        List<Long> userIds = transactionTemplate.execute(status -> {
+            try (Stream<Long> ids = userRepository.streamAllUserIds()) {
+                return ids.toList();
+            }
+        });
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>(userIds.size());
+            for(long userId : userIds) {
+                futures.add(executorService.submit(() -> rebuild(userId)));
+            }
+            for(Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("ledger rebuild interrupted" , e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("ledger rebuild failed" , e.getCause());
+        } finally {
+            executorService.shutdownNow();
+        }
+        return userIds.size();
+    }
+
+    //한 사용자의 잔액을 기초 잔액 + 이후 내역으로 다시 계산 (스냅샷 + users.point + 내역 집계 동기화)
+    // - 기초 잔액(원장 모드 이전 users.point)은 내역 행이 없으므로 내역만 더하면 잔액이 줄어든다
+    // - 스냅샷이 없으면 지금의 users.point 를 기초 잔액으로 만든다 , 기초 잔액이 없는 이전 스냅샷은 현재 잔액을 기초 잔액으로 고정한다
+    // - 분할 잔액(스트라이프) 계정은 잔액이 스트라이프에 있으므로 건너뛴다
+    // - 락 대기 제한 시간을 넘으면 LOCK_TIMEOUT(429) : 재구성은 쓰기가 없는 시간에 실행한다
+    public void rebuild(long userId) {
+        if(pointStripeService.isHot(userId)) return;
+        if(!userLockManager.tryLock(userId , lockTimeoutMillis)) throw new BusinessException(429 , Messages.LOCK_TIMEOUT);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if(!userRepository.existsById(userId)) return;
+                BalanceSnapshot snapshot = findOrCreateSnapshot(userId);
+                if(snapshot.getOpeningPoint() == null) {
+                    PointRepository.LedgerDelta current = pointRepository.sumAfter(userId , snapshot.getLastHistoryId());
+                    snapshot.setOpeningPoint(snapshot.getPoint() + current.getDelta());
+                    snapshot.setOpeningHistoryId(current.getLastHistoryId());
+                }
+
+                PointRepository.LedgerDelta ledgerDelta = pointRepository.sumAfter(userId , snapshot.getOpeningHistoryId());
+                long balance = snapshot.getOpeningPoint() + ledgerDelta.getDelta();
+                snapshot.setPoint(balance);
+                snapshot.setLastHistoryId(ledgerDelta.getLastHistoryId());
+                userRepository.findById(userId).ifPresent(user -> user.setPoint(balance));
+                pointHistoryRecorder.rebuildSummary(userId);
+            });
+        } finally {
+            userLockManager.unlock(userId);
+        }
+    }
+}
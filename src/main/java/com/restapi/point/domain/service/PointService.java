@@ -1,37 +1,63 @@
 package com.restapi.point.domain.service;
 
+import com.restapi.point.application.enums.LockStrategy;
 import com.restapi.point.application.enums.Messages;
 import com.restapi.point.application.exception.BusinessException;
 import com.restapi.point.domain.model.PointHistory;
 import com.restapi.point.domain.model.User;
+import com.restapi.point.infrastructure.cache.PointBalanceCache;
+import com.restapi.point.infrastructure.jfr.PointDbCallEvent;
+import com.restapi.point.infrastructure.jfr.PointLockWaitEvent;
+import com.restapi.point.infrastructure.lock.UserLockManager;
+import com.restapi.point.infrastructure.mailbox.UserMailboxExecutor;
+import com.restapi.point.infrastructure.metrics.PointMetrics;
 import com.restapi.point.infrastructure.repository.PointRepository;
 import com.restapi.point.infrastructure.repository.UserRepository;
 import com.restapi.point.presentation.dto.RequestDTO;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.Lock;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
 
 @Service
 public class PointService {
 
+    static final int IN_CLAUSE_CHUNK_SIZE = 1000; //IN 절 파라미터 수 (DB 별 제한 중 가장 작은 Oracle 기준)
+
     @Autowired
     UserRepository userRepository;
     @Autowired
     PointRepository pointRepository;
 
+    //락 대기 / DB 시간 지표 (동시성 제어 방식 메소드에서만 사용)
+    @Autowired
+    PointMetrics pointMetrics;
+
 
     public User charge(long userId , RequestDTO requestDTO) {
 
         //값 검증
         if(requestDTO.getPoint() <= 0) throw new BusinessException(400 , Messages.MUST_UPPER_ONE_POINT_CHARGE);
 
-        Optional<User> user = userRepository.findById(userId);
+        Optional<User> user = findUser(userId);
         if(user.isEmpty()) throw new BusinessException(400 , Messages.NO_USER);
         user.get().setPoint(user.get().getPoint() + requestDTO.getPoint());
         return userRepository.save(user.get());
@@ -43,13 +69,20 @@ public class PointService {
         //값 검증
         if(requestDTO.getPoint() <= 0) throw new BusinessException(400 , Messages.MUST_UPPER_ONE_POINT_USE);
 
-        User user = userRepository.findById(userId).get();
-        System.out.println( "금액 체크 : " + (user.getPoint() - requestDTO.getPoint()));
+        User user = findUser(userId).get();
         if(user.getPoint() - requestDTO.getPoint() < 0) throw new BusinessException(400 , Messages.LACK_POINT);
         user.setPoint(user.getPoint() - requestDTO.getPoint());
         return userRepository.save(user);
     }
 
+    //충전/사용 경로의 사용자 조회 (JFR PointDbCall 이벤트 기록)
+    private Optional<User> findUser(long userId) {
+        PointDbCallEvent dbCall = PointDbCallEvent.begin(userId , "UserRepository.findById");
+        Optional<User> user = userRepository.findById(userId);
+        dbCall.end(user.isPresent() ? 1 : 0);
+        return user;
+    }
+
     public long getPointById(long userId) {
         Optional<User> user = userRepository.findById(userId);
 
@@ -58,6 +91,19 @@ public class PointService {
         return user.get().getPoint();
     }
 
+    //여러 사용자 잔액 조회 : IN 절 파라미터 수 제한에 맞춰 나눠서 조회 , 없는 사용자는 결과에서 빠진다
+    public Map<Long , Long> getPointsByIds(Collection<Long> userIds) {
+        Map<Long , Long> points = new HashMap<>();
+        List<Long> ids = new ArrayList<>(userIds);
+        for(int from = 0 ; from < ids.size() ; from += IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from , Math.min(from + IN_CLAUSE_CHUNK_SIZE , ids.size()));
+            for(User user : userRepository.findAllById(chunk)) {
+                points.put(user.getUserId() , user.getPoint());
+            }
+        }
+        return points;
+    }
+
     public List<PointHistory> getPointHistoriesById(long userId) {
 
         Optional<User> user = userRepository.findById(userId);
@@ -66,77 +112,333 @@ public class PointService {
         return pointRepository.findByUserId(userId);
     }
 
+    public List<PointHistory> getPointHistoriesAfter(long userId , long afterId , int limit) {
 
-    //동시성 제어 테스트 : synchronized 활용 (포인트 충전 & 사용)
-    public synchronized User chargeBySynchronized(long userId , RequestDTO requestDTO) { return charge(userId , requestDTO);}
-    public synchronized User useBySynchronized(long userId , RequestDTO requestDTO) {
-        return use(userId , requestDTO);
+        if(!userRepository.existsById(userId)) throw new BusinessException(400 , Messages.NO_USER);
+
+        return pointRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(userId , afterId , Limit.of(limit));
     }
 
-    private final ConcurrentHashMap<Long, ReentrantLock> lockMap = new ConcurrentHashMap<>();
-    public Lock getLockForUser(long userId) {
-        return lockMap.computeIfAbsent(userId , id -> new ReentrantLock());
+
+    //동시성 제어 테스트 : 전체 요청 직렬화 (포인트 충전 & 사용)
+    // - 기존 synchronized 와 같은 의미(하나의 락으로 모든 사용자 직렬화)를 ReentrantLock 으로 유지
+    // - synchronized 안에서 DB I/O 로 대기하면 가상 스레드가 캐리어 스레드에 고정(pinning)되므로 사용하지 않는다
+    private final ReentrantLock globalLock = new ReentrantLock();
+
+    //락 대기 시간 제한 : 한 사용자에게 몰린 요청이 요청 스레드를 모두 붙잡지 않도록 초과 시 LOCK_TIMEOUT(429)
+    @Value("${point.lock.timeout-millis:3000}")
+    long lockTimeoutMillis;
+
+    public User chargeBySynchronized(long userId , RequestDTO requestDTO) {
+        lockGlobal(userId);
+        try {
+            return chargeWithHistory(userId , requestDTO);
+        } finally {
+            globalLock.unlock();
+        }
+    }
+    public User useBySynchronized(long userId , RequestDTO requestDTO) {
+        lockGlobal(userId);
+        try {
+            return useWithHistory(userId , requestDTO);
+        } finally {
+            globalLock.unlock();
+        }
+    }
+
+    private void lockGlobal(long userId) {
+        PointLockWaitEvent lockWait = PointLockWaitEvent.begin(userId , "SYNCHRONIZED");
+        long startedAt = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = globalLock.tryLock(lockTimeoutMillis , TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        pointMetrics.recordLockWait("global" , System.nanoTime() - startedAt);
+        lockWait.end();
+        if(!acquired) throw new BusinessException(429 , Messages.LOCK_TIMEOUT);
     }
+
+    //동시성 제어 테스트 : ReentrantLock 활용 (사용자별 락은 고정 크기 스트라이프로 관리)
+    @Autowired
+    UserLockManager userLockManager;
+
     public User chargeByReentrantLock(long userId , RequestDTO requestDTO) {
-        Lock userLock = getLockForUser(userId);
-        userLock.lock();
+        lockUser(userId);
         try {
-            return charge(userId, requestDTO);
+            return chargeWithHistory(userId , requestDTO);
         } finally {
-            userLock.unlock();
+            userLockManager.unlock(userId);
         }
     }
     public User useByReentrantLock(long userId , RequestDTO requestDTO) {
-        Lock userLock = getLockForUser(userId);
-        userLock.lock();
+        lockUser(userId);
         try {
-            return use(userId , requestDTO);
+            return useWithHistory(userId , requestDTO);
         } finally {
-            userLock.unlock();
+            userLockManager.unlock(userId);
         }
     }
 
+    private void lockUser(long userId) {
+        PointLockWaitEvent lockWait = PointLockWaitEvent.begin(userId , "REENTRANT_LOCK");
+        long startedAt = System.nanoTime();
+        boolean acquired = userLockManager.tryLock(userId , lockTimeoutMillis);
+        pointMetrics.recordLockWait("user" , System.nanoTime() - startedAt);
+        lockWait.end();
+        if(!acquired) throw new BusinessException(429 , Messages.LOCK_TIMEOUT);
+    }
 
 
-    //동시성 제어 테스트 : 비관락 활용
+
+    //동시성 제어 테스트 : 비관락 활용 (SELECT ... FOR UPDATE 시간을 행 락 대기 시간으로 기록)
     @Transactional
     public User chargeByPessimisticLock(long userId , RequestDTO requestDTO) {
 
-        System.out.println("충전 진입");
-
-        Optional<User> user = userRepository.findByIdUsingPessimisticLock(userId);
-        if(user.isEmpty()) {
-            System.out.println("사용자 없음");
-            throw new BusinessException(400 , Messages.NO_USER);
-        }
+        Optional<User> user = findUserForUpdate(userId);
+        if(user.isEmpty()) throw new BusinessException(400 , Messages.NO_USER);
 
         //값 검증
         if(requestDTO.getPoint() <= 0) throw new BusinessException(400 , Messages.MUST_UPPER_ONE_POINT_CHARGE);
 
         user.get().setPoint(user.get().getPoint() + requestDTO.getPoint());
-        System.out.println("충전 내역 저장");
+        recordHistory(userId , requestDTO.getPoint() , "충전");
         return userRepository.save(user.get());
     }
 
     @Transactional
     public User useByPessimisticLock(long userId , RequestDTO requestDTO) {
 
-        System.out.println("사용 진입");
-
-        User user = userRepository.findByIdUsingPessimisticLock(userId).get();
-        if(user.getPoint() - requestDTO.getPoint() < 0) {
-            System.out.println("돈 없음");
-            throw new BusinessException(400 , Messages.LACK_POINT);
-        }
+        User user = findUserForUpdate(userId).get();
+        if(user.getPoint() - requestDTO.getPoint() < 0) throw new BusinessException(400 , Messages.LACK_POINT);
 
         //값 검증
         if(requestDTO.getPoint() <= 0) throw new BusinessException(400 , Messages.MUST_UPPER_ONE_POINT_USE);
 
         user.setPoint(user.getPoint() - requestDTO.getPoint());
-        System.out.println("사용 내역 저장");
+        recordHistory(userId , requestDTO.getPoint() , "사용");
 
         return userRepository.save(user);
     }
 
+    //행 락 대기 시간 제한은 리포지토리 조회의 jakarta.persistence.lock.timeout 힌트로 건다
+    private Optional<User> findUserForUpdate(long userId) {
+        PointLockWaitEvent lockWait = PointLockWaitEvent.begin(userId , "PESSIMISTIC_LOCK");
+        PointDbCallEvent dbCall = PointDbCallEvent.begin(userId , "UserRepository.findByIdForUpdate");
+        try {
+            Optional<User> user = pointMetrics.timeLockWait("pessimistic" , () -> userRepository.findByIdForUpdate(userId));
+            dbCall.end(user.isPresent() ? 1 : 0);
+            return user;
+        } catch (PessimisticLockingFailureException e) {
+            throw new BusinessException(429 , Messages.LOCK_TIMEOUT);
+        } finally {
+            lockWait.end();
+        }
+    }
+
+
+
+    //동시성 제어 테스트 : 낙관락 활용 (버전 충돌 시 지터 백오프 후 재시도)
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    PointBalanceCache pointBalanceCache;
+
+    @Value("${point.optimistic.max-attempts:5}")
+    int optimisticMaxAttempts;
+
+    @Value("${point.optimistic.backoff-millis:5}")
+    long optimisticBackoffMillis;
+
+    private final LongAdder optimisticRetryCount = new LongAdder();
+    private final LongAdder optimisticFailureCount = new LongAdder();
+
+    public User chargeByOptimisticLock(long userId , RequestDTO requestDTO) {
+
+        //값 검증
+        if(requestDTO.getPoint() <= 0) throw new BusinessException(400 , Messages.MUST_UPPER_ONE_POINT_CHARGE);
+
+        return updateByOptimisticLock(userId , requestDTO.getPoint() , "충전" , point -> point + requestDTO.getPoint());
+    }
+
+    public User useByOptimisticLock(long userId , RequestDTO requestDTO) {
+
+        //값 검증
+        if(requestDTO.getPoint() <= 0) throw new BusinessException(400 , Messages.MUST_UPPER_ONE_POINT_USE);
+
+        return updateByOptimisticLock(userId , requestDTO.getPoint() , "사용" , point -> {
+            if(point - requestDTO.getPoint() < 0) throw new BusinessException(400 , Messages.LACK_POINT);
+            return point - requestDTO.getPoint();
+        });
+    }
+
+    private User updateByOptimisticLock(long userId , long amount , String historyType , LongUnaryOperator calculator) {
+        for(int attempt = 1 ; ; attempt++) {
+            User updated = null;
+            try {
+                updated = pointMetrics.timeDb("optimistic_update" , () -> transactionTemplate.execute(status -> {
+                    User user = findUser(userId).orElseThrow(() -> new BusinessException(400 , Messages.NO_USER));
+                    long afterPoint = calculator.applyAsLong(user.getPoint());
+
+                    PointDbCallEvent dbCall = PointDbCallEvent.begin(userId , "UserRepository.updatePointIfVersionMatches");
+                    int updatedRows = userRepository.updatePointIfVersionMatches(userId , afterPoint , user.getVersion());
+                    dbCall.end(updatedRows);
+                    if(updatedRows == 0) return null;
+                    pointBalanceCache.write(userId , afterPoint); //벌크 UPDATE 는 엔티티 리스너를 거치지 않는다
+                    recordHistory(userId , amount , historyType);
+                    return new User(userId , afterPoint , user.getVersion() + 1);
+                }));
+            } catch (ConcurrencyFailureException e) {
+                //DB 가 동시 변경을 감지한 경우도 버전 충돌과 동일하게 재시도
+            }
+            if(updated != null) return updated;
+
+            if(attempt >= optimisticMaxAttempts) {
+                optimisticFailureCount.increment();
+                throw new BusinessException(409 , Messages.CONCURRENT_UPDATE_CONFLICT);
+            }
+            optimisticRetryCount.increment();
+            backoff(attempt);
+        }
+    }
+
+    //재시도 간격 : 0 ~ (backoff * 2^(attempt-1)) 사이 임의 값 -> 동시에 실패한 요청들이 다시 부딪히지 않도록 분산
+    private void backoff(int attempt) {
+        long maxDelay = optimisticBackoffMillis << Math.min(attempt - 1 , 6);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(maxDelay + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(409 , Messages.CONCURRENT_UPDATE_CONFLICT);
+        }
+    }
+
+    public long getOptimisticRetryCount() {
+        return optimisticRetryCount.sum();
+    }
+
+    public long getOptimisticFailureCount() {
+        return optimisticFailureCount.sum();
+    }
+
+
+
+    //동시성 제어 테스트 : 조건부 단일 UPDATE 활용 (명시적 락 없이 DB 의 원자적 갱신으로 처리)
+    public User chargeByConditionalUpdate(long userId , RequestDTO requestDTO) {
+
+        //값 검증
+        if(requestDTO.getPoint() <= 0) throw new BusinessException(400 , Messages.MUST_UPPER_ONE_POINT_CHARGE);
+
+        return updateByConditionalUpdate(() -> transactionTemplate.execute(status -> {
+            PointDbCallEvent dbCall = PointDbCallEvent.begin(userId , "UserRepository.chargePoint");
+            Optional<Long> charged = userRepository.chargePoint(userId , requestDTO.getPoint());
+            dbCall.end(charged.isPresent() ? 1 : 0);
+            long afterPoint = charged.orElseThrow(() -> new BusinessException(400 , Messages.NO_USER));
+            pointBalanceCache.write(userId , afterPoint);
+            recordHistory(userId , requestDTO.getPoint() , "충전");
+            return new User(userId , afterPoint);
+        }));
+    }
+
+    public User useByConditionalUpdate(long userId , RequestDTO requestDTO) {
+
+        //값 검증
+        if(requestDTO.getPoint() <= 0) throw new BusinessException(400 , Messages.MUST_UPPER_ONE_POINT_USE);
+
+        return updateByConditionalUpdate(() -> transactionTemplate.execute(status -> {
+            PointDbCallEvent dbCall = PointDbCallEvent.begin(userId , "UserRepository.usePointIfEnough");
+            Optional<Long> afterPoint = userRepository.usePointIfEnough(userId , requestDTO.getPoint());
+            dbCall.end(afterPoint.isPresent() ? 1 : 0);
+            if(afterPoint.isEmpty()) {
+                //반영된 행이 없는 경우에만 원인 확인을 위해 한 번 더 조회
+                throw new BusinessException(400 , userRepository.existsById(userId) ? Messages.LACK_POINT : Messages.NO_USER);
+            }
+            pointBalanceCache.write(userId , afterPoint.get());
+            recordHistory(userId , requestDTO.getPoint() , "사용");
+            return new User(userId , afterPoint.get());
+        }));
+    }
 
+
+
+    //UPDATE 의 행 락 대기는 DB 세션 락 대기 시간(H2 : LOCK_TIMEOUT)을 넘으면 실패한다
+    private User updateByConditionalUpdate(Supplier<User> update) {
+        try {
+            return pointMetrics.timeDb("conditional_update" , update);
+        } catch (PessimisticLockingFailureException e) {
+            throw new BusinessException(429 , Messages.LOCK_TIMEOUT);
+        }
+    }
+
+
+
+    //동시성 제어 테스트 : 사용자별 메일박스 활용 (사용자당 하나의 워커가 도착 순서대로 처리)
+    // - 메일박스는 같은 사용자의 메일박스 명령끼리만 직렬화한다.
+    //   동기 API , 일괄 처리 , Group Commit 도 같은 users 행을 쓰므로 워커도 설정된 방식의 락(또는 조건부 UPDATE)으로 반영한다.
+    //   (잠그지 않고 읽은 잔액으로 덮어쓰면 다른 경로의 커밋을 잃고 , 지난 잔액으로 잔액 부족 검증을 통과할 수 있다)
+    @Autowired
+    UserMailboxExecutor userMailboxExecutor;
+
+    @Value("${point.lock.strategy:PESSIMISTIC_LOCK}")
+    LockStrategy lockStrategy;
+
+    public CompletableFuture<User> chargeByMailbox(long userId , RequestDTO requestDTO) {
+        return userMailboxExecutor.submit(userId , () -> chargeInMailbox(userId , requestDTO));
+    }
+
+    public CompletableFuture<User> useByMailbox(long userId , RequestDTO requestDTO) {
+        return userMailboxExecutor.submit(userId , () -> useInMailbox(userId , requestDTO));
+    }
+
+    //비관락 메소드는 같은 빈 안에서 호출하면 @Transactional 이 적용되지 않으므로 트랜잭션을 직접 연다
+    private User chargeInMailbox(long userId , RequestDTO requestDTO) {
+        return switch (lockStrategy) {
+            case SYNCHRONIZED -> chargeBySynchronized(userId , requestDTO);
+            case REENTRANT_LOCK -> chargeByReentrantLock(userId , requestDTO);
+            case PESSIMISTIC_LOCK -> transactionTemplate.execute(status -> chargeByPessimisticLock(userId , requestDTO));
+            case OPTIMISTIC_LOCK -> chargeByOptimisticLock(userId , requestDTO);
+            case CONDITIONAL_UPDATE , MAILBOX , LEDGER -> chargeByConditionalUpdate(userId , requestDTO);
+        };
+    }
+
+    private User useInMailbox(long userId , RequestDTO requestDTO) {
+        return switch (lockStrategy) {
+            case SYNCHRONIZED -> useBySynchronized(userId , requestDTO);
+            case REENTRANT_LOCK -> useByReentrantLock(userId , requestDTO);
+            case PESSIMISTIC_LOCK -> transactionTemplate.execute(status -> useByPessimisticLock(userId , requestDTO));
+            case OPTIMISTIC_LOCK -> useByOptimisticLock(userId , requestDTO);
+            case CONDITIONAL_UPDATE , MAILBOX , LEDGER -> useByConditionalUpdate(userId , requestDTO);
+        };
+    }
+
+
+
+    //잔액 변경과 내역 추가를 한 트랜잭션으로 커밋 (한 번의 flush 로 UPDATE + INSERT 를 함께 보낸다)
+    // - JVM 락 전략은 락을 풀기 전에 커밋까지 끝나야 하므로 락 안에서 호출한다
+    private User chargeWithHistory(long userId , RequestDTO requestDTO) {
+        return pointMetrics.timeDb("transaction" , () -> transactionTemplate.execute(status -> {
+            User user = charge(userId , requestDTO);
+            recordHistory(userId , requestDTO.getPoint() , "충전");
+            return user;
+        }));
+    }
+
+    private User useWithHistory(long userId , RequestDTO requestDTO) {
+        return pointMetrics.timeDb("transaction" , () -> transactionTemplate.execute(status -> {
+            User user = use(userId , requestDTO);
+            recordHistory(userId , requestDTO.getPoint() , "사용");
+            return user;
+        }));
+    }
+
+    //현재 트랜잭션에 내역 추가 + 사용자별 집계 누적
+    @Autowired
+    PointHistoryRecorder pointHistoryRecorder;
+
+    private void recordHistory(long userId , long point , String type) {
+        pointHistoryRecorder.record(userId , point , type);
+    }
 }
@@ -0,0 +1,202 @@
+package com.restapi.point.domain.service;
+
+import com.restapi.point.application.enums.Messages;
+import com.restapi.point.application.exception.BusinessException;
+import com.restapi.point.domain.model.BalanceStripe;
+import com.restapi.point.domain.model.User;
+import com.restapi.point.infrastructure.cache.PointBalanceCache;
+import com.restapi.point.infrastructure.repository.BalanceStripeRepository;
+import com.restapi.point.infrastructure.repository.UserRepository;
+import com.restapi.point.presentation.dto.RequestDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/*
+분할 잔액(스트라이프) : 요청이 몰리는 계정(point.stripe.hot-users)의 잔액을 point.stripe.count 개 행으로 나눈다. (LongAdder 방식)
+
+- 충전 : 임의의 스트라이프 하나에 더한다. (동시 충전이 서로 다른 행에 나뉘어 한 행의 커밋 순서를 기다리지 않는다)
+- 사용 : 임의의 스트라이프 하나에서 먼저 차감하고 , 그 스트라이프만으로 부족하면
+         모든 스트라이프를 순서대로 잠가 합계로 검증한 뒤 차감하고 남은 잔액을 고르게 다시 나눈다. (빌려오기 + 재분배)
+- 조회 : 모든 스트라이프 합계
+- 처음 요청이 들어올 때 users.point 를 0번 스트라이프로 옮기고 users.point 는 0 으로 비운다.
+- 내역 집계는 PointHistoryRecorder.recordStriped 로 같은 트랜잭션에서 집계 스트라이프 행에 누적한다.
+- 분할 대상에서 빠진 계정(기동 시 hot-users 에 없는데 스트라이프가 남은 계정)은 웹 요청을 받기 전에
+  스트라이프 합계를 users.point 로 , 집계 스트라이프를 point_summary 로 되돌리고 스트라이프를 지운다.
+- 락 대기는 point.lock.timeout-millis 로 제한하고 넘으면 LOCK_TIMEOUT(429)
+- 일괄 처리 API 는 users.point 기준이므로 스트라이프 계정 명령은 거절한다.
+*/
+@Service
+public class PointStripeService implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(PointStripeService.class);
+
+    @Autowired
+    BalanceStripeRepository balanceStripeRepository;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+    @Autowired
+    PointHistoryRecorder pointHistoryRecorder;
+    @Autowired
+    PointBalanceCache pointBalanceCache;
+
+    private final Set<Long> hotUsers;
+    private final int stripeCount;
+
+    public PointStripeService(@Value("${point.stripe.hot-users:}") String hotUsers ,
+                              @Value("${point.stripe.count:8}") int stripeCount) {
+        if(stripeCount <= 0) throw new IllegalArgumentException("stripe 개수는 1 이상이어야 합니다.");
+
+        this.hotUsers = parseUserIds(hotUsers);
+        this.stripeCount = stripeCount;
+    }
+
+    public boolean isHot(long userId) {
+        return hotUsers.contains(userId);
+    }
+
+    public User charge(long userId , RequestDTO requestDTO) {
+
+        //값 검증
+        if(requestDTO.getPoint() <= 0) throw new BusinessException(400 , Messages.MUST_UPPER_ONE_POINT_CHARGE);
+
+        return inBoundedLockWait(() -> transactionTemplate.execute(status -> {
+            int stripe = ThreadLocalRandom.current().nextInt(stripeCount);
+            if(balanceStripeRepository.chargeStripe(userId , stripe , requestDTO.getPoint()).isEmpty()) {
+                createStripes(userId);
+                balanceStripeRepository.chargeStripe(userId , stripe , requestDTO.getPoint());
+            }
+            pointHistoryRecorder.recordStriped(userId , stripe , requestDTO.getPoint() , "충전");
+            return new User(userId , balanceStripeRepository.sumByUserId(userId).orElse(0L));
+        }));
+    }
+
+    public User use(long userId , RequestDTO requestDTO) {
+
+        //값 검증
+        if(requestDTO.getPoint() <= 0) throw new BusinessException(400 , Messages.MUST_UPPER_ONE_POINT_USE);
+
+        return inBoundedLockWait(() -> transactionTemplate.execute(status -> {
+            int stripe = ThreadLocalRandom.current().nextInt(stripeCount);
+            if(balanceStripeRepository.useStripeIfEnough(userId , stripe , requestDTO.getPoint()).isEmpty()) {
+                useAcrossStripes(userId , requestDTO.getPoint());
+            }
+            pointHistoryRecorder.recordStriped(userId , stripe , requestDTO.getPoint() , "사용");
+            return new User(userId , balanceStripeRepository.sumByUserId(userId).orElse(0L));
+        }));
+    }
+
+    //스트라이프가 아직 없으면 users.point 가 그대로 잔액
+    public long getBalance(long userId) {
+        Optional<Long> sum = balanceStripeRepository.sumByUserId(userId);
+        if(sum.isPresent()) return sum.get();
+        return userRepository.findById(userId).orElseThrow(() -> new BusinessException(400 , Messages.NO_USER)).getPoint();
+    }
+
+    //스트라이프 행 락(빌려오기 FOR UPDATE , 단일 구문 UPDATE) , 사용자 행 락(스트라이프 생성) 대기가 제한 시간을 넘으면 LOCK_TIMEOUT(429)
+    private User inBoundedLockWait(Supplier<User> action) {
+        try {
+            return action.get();
+        } catch (PessimisticLockingFailureException e) {
+            throw new BusinessException(429 , Messages.LOCK_TIMEOUT);
+        }
+    }
+
+    //빌려오기 : 모든 스트라이프를 잠그고 합계로 검증 , 차감 후 남은 잔액을 스트라이프에 고르게 다시 나눈다
+    private void useAcrossStripes(long userId , long amount) {
+        List<BalanceStripe> stripes = balanceStripeRepository.findAllByUserIdForUpdate(userId);
+        if(stripes.isEmpty()) {
+            createStripes(userId);
+            stripes = balanceStripeRepository.findAllByUserIdForUpdate(userId);
+        }
+
+        long total = 0;
+        for(BalanceStripe stripe : stripes) {
+            total += stripe.getPoint();
+        }
+        if(total < amount) throw new BusinessException(400 , Messages.LACK_POINT);
+
+        long remaining = total - amount;
+        for(BalanceStripe stripe : stripes) {
+            stripe.setPoint(remaining / stripes.size());
+        }
+        stripes.get(0).setPoint(stripes.get(0).getPoint() + remaining % stripes.size());
+    }
+
+    //처음 요청 : 사용자 행을 잠그고 users.point 를 0번 스트라이프로 옮긴다 (동시에 들어온 요청은 사용자 행 락을 기다린 뒤 다시 확인)
+    private void createStripes(long userId) {
+        User user = userRepository.findByIdForUpdate(userId).orElseThrow(() -> new BusinessException(400 , Messages.NO_USER));
+        if(balanceStripeRepository.sumByUserId(userId).isPresent()) return;
+
+        List<BalanceStripe> stripes = new ArrayList<>(stripeCount);
+        for(int stripe = 0 ; stripe < stripeCount ; stripe++) {
+            stripes.add(new BalanceStripe(userId , stripe , stripe == 0 ? user.getPoint() : 0));
+        }
+        balanceStripeRepository.saveAllAndFlush(stripes);
+        user.setPoint(0);
+        userRepository.saveAndFlush(user);
+    }
+
+    //모든 빈이 만들어진 뒤 , 웹 서버가 요청을 받기 전에 실행
+    @Override
+    public void afterSingletonsInstantiated() {
+        int merged = mergeColdStripes();
+        if(merged > 0) log.info("분할 대상에서 빠진 계정 {} 명의 스트라이프를 users.point 로 되돌렸습니다." , merged);
+    }
+
+    //hot-users 에 없는데 스트라이프가 남은 계정을 모두 되돌린다 , 되돌린 계정 수 반환
+    public int mergeColdStripes() {
+        int merged = 0;
+        for(long userId : balanceStripeRepository.findStripedUserIds()) {
+            if(isHot(userId)) continue;
+            mergeStripes(userId);
+            merged++;
+        }
+        return merged;
+    }
+
+    //사용자 행과 모든 스트라이프를 잠그고 합계를 users.point 에 더한 뒤 스트라이프를 지운다
+    public void mergeStripes(long userId) {
+        inBoundedLockWait(() -> transactionTemplate.execute(status -> {
+            Optional<User> user = userRepository.findByIdForUpdate(userId);
+            List<BalanceStripe> stripes = balanceStripeRepository.findAllByUserIdForUpdate(userId);
+            if(user.isEmpty() || stripes.isEmpty()) return null;
+
+            long total = 0;
+            for(BalanceStripe stripe : stripes) {
+                total += stripe.getPoint();
+            }
+            user.get().setPoint(user.get().getPoint() + total);
+            balanceStripeRepository.deleteAll(stripes);
+            pointHistoryRecorder.mergeStripedSummary(userId);
+            pointBalanceCache.evict(userId);
+            return user.get();
+        }));
+    }
+
+    private static Set<Long> parseUserIds(String userIds) {
+        if(userIds == null || userIds.isBlank()) return Collections.emptySet();
+
+        Set<Long> parsed = new HashSet<>();
+        for(String userId : userIds.split(",")) {
+            parsed.add(Long.parseLong(userId.trim()));
+        }
+        return Collections.unmodifiableSet(parsed);
+    }
+}
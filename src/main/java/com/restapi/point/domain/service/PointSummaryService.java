@@ -0,0 +1,67 @@
+package com.restapi.point.domain.service;
+
+import com.restapi.point.infrastructure.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/*
+내역 집계(point_summary) 백필
+
+- 집계 행이 생기기 전부터 있던 내역은 누적되지 않았으므로 , 전체 내역으로 사용자별 집계를 다시 계산한다.
+- 동시성 제어 방식(원장 모드 여부)과 관계없이 point_history 만 읽는다.
+- 사용자마다 users 행 락을 잡고 계산한다. (행 락 / 조건부 UPDATE 로 쓰는 요청의 내역 + 집계 누적이 커밋된 뒤 계산)
+*/
+@Service
+public class PointSummaryService {
+
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    PointHistoryRecorder pointHistoryRecorder;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    //전체 사용자 집계 재계산 : 사용자별로 나눠 threads 개 스레드에서 병렬 처리 , 처리한 사용자 수 반환
+    public int rebuildAll(int threads) {
+        List<Long> userIds = transactionTemplate.execute(status -> {
+            try (Stream<Long> ids = userRepository.streamAllUserIds()) {
+                return ids.toList();
+            }
+        });
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>(userIds.size());
+            for(long userId : userIds) {
+                futures.add(executorService.submit(() -> rebuild(userId)));
+            }
+            for(Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("summary backfill interrupted" , e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("summary backfill failed" , e.getCause());
+        } finally {
+            executorService.shutdownNow();
+        }
+        return userIds.size();
+    }
+
+    public void rebuild(long userId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            userRepository.findByIdForUpdate(userId);
+            pointHistoryRecorder.rebuildSummary(userId);
+        });
+    }
+}
@@ -0,0 +1,119 @@
+package com.restapi.point.infrastructure.admission;
+
+import com.restapi.point.application.enums.Messages;
+import com.restapi.point.application.exception.BusinessException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/*
+사용자별 처리 중(in-flight) 쓰기 요청 수 제한
+
+- 한 사용자에 대해 처리 중인 충전/사용 요청이 한도에 차 있으면 락/커넥션을 기다리지 않고 바로 429 로 거절한다.
+  : 한 사용자에게 몰린 요청이 요청 스레드와 DB 커넥션을 모두 붙잡지 않도록
+- 한도는 point.admission.max-in-flight (커넥션 풀 크기보다 작게 , AdmissionConfig 참고) , 가맹점 등 요청이 많은 사용자는 point.admission.overrides 로 따로 지정한다. (ex. 1001:200,1002:500)
+- 처리 중인 요청이 없는 사용자는 맵에서 지운다. (메모리 = 현재 요청이 있는 사용자 수)
+- 지표 : 사용자 id 태그는 한도를 따로 지정한 사용자만 (사용자 수만큼 시계열이 늘어나지 않도록)
+  point.admission.in.flight{user} , point.admission.busy.users , point.admission.max.depth
+*/
+@Component
+public class UserAdmissionControl {
+
+    private final ConcurrentHashMap<Long, Integer> inFlight = new ConcurrentHashMap<>();
+    private final int maxInFlight;
+    private final Map<Long, Integer> overrides;
+    private final LongAdder rejections = new LongAdder();
+
+    public UserAdmissionControl(@Value("${point.admission.max-in-flight:8}") int maxInFlight ,
+                                @Value("${point.admission.overrides:}") String overrides ,
+                                MeterRegistry meterRegistry) {
+        if(maxInFlight <= 0) throw new IllegalArgumentException("max-in-flight 는 1 이상이어야 합니다.");
+
+        this.maxInFlight = maxInFlight;
+        this.overrides = parseOverrides(overrides);
+
+        for(long userId : this.overrides.keySet()) {
+            Gauge.builder("point.admission.in.flight" , this , admission -> admission.getDepth(userId))
+                    .tag("user" , String.valueOf(userId))
+                    .register(meterRegistry);
+        }
+        Gauge.builder("point.admission.busy.users" , inFlight , Map::size).register(meterRegistry);
+        Gauge.builder("point.admission.max.depth" , this , UserAdmissionControl::getMaxDepth).register(meterRegistry);
+    }
+
+    //한도 안이면 실행 , 한도를 넘으면 실행하지 않고 ADMISSION_REJECTED(429)
+    public <T> T admit(long userId , Supplier<T> action) {
+        acquire(userId);
+        try {
+            return action.get();
+        } finally {
+            release(userId);
+        }
+    }
+
+    public void acquire(long userId) {
+        int limit = getLimit(userId);
+        boolean[] admitted = {false};
+        inFlight.compute(userId , (id , depth) -> {
+            int current = depth == null ? 0 : depth;
+            if(current >= limit) return depth;
+            admitted[0] = true;
+            return current + 1;
+        });
+        if(!admitted[0]) {
+            rejections.increment();
+            throw new BusinessException(429 , Messages.ADMISSION_REJECTED);
+        }
+    }
+
+    public void release(long userId) {
+        inFlight.computeIfPresent(userId , (id , depth) -> depth <= 1 ? null : depth - 1);
+    }
+
+    public int getLimit(long userId) {
+        return overrides.getOrDefault(userId , maxInFlight);
+    }
+
+    public int getDepth(long userId) {
+        return inFlight.getOrDefault(userId , 0);
+    }
+
+    public int getMaxDepth() {
+        int max = 0;
+        for(int depth : inFlight.values()) {
+            max = Math.max(max , depth);
+        }
+        return max;
+    }
+
+    public AdmissionStats getStats() {
+        return new AdmissionStats(inFlight.size() , getMaxDepth() , rejections.sum());
+    }
+
+    //"사용자id:한도,사용자id:한도" (AdmissionConfig 기동 검증에서도 사용)
+    public static Map<Long, Integer> parseOverrides(String overrides) {
+        if(overrides == null || overrides.isBlank()) return Collections.emptyMap();
+
+        Map<Long, Integer> parsed = new HashMap<>();
+        for(String entry : overrides.split(",")) {
+            String[] pair = entry.trim().split(":");
+            if(pair.length != 2) throw new IllegalArgumentException("point.admission.overrides 형식이 잘못되었습니다 : " + entry);
+            int limit = Integer.parseInt(pair[1].trim());
+            if(limit <= 0) throw new IllegalArgumentException("point.admission.overrides 한도는 1 이상이어야 합니다 : " + entry);
+            parsed.put(Long.parseLong(pair[0].trim()) , limit);
+        }
+        return Collections.unmodifiableMap(parsed);
+    }
+
+    //busyUsers : 처리 중인 요청이 있는 사용자 수 , maxDepth : 가장 많이 쌓인 사용자의 요청 수 , rejections : 거절 횟수
+    public record AdmissionStats(int busyUsers , int maxDepth , long rejections) {
+    }
+}
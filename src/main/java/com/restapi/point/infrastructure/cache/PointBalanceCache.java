@@ -0,0 +1,102 @@
+package com.restapi.point.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongUnaryOperator;
+
+/*
+사용자 잔액 캐시 (Caffeine : W-TinyLFU , 최대 크기 제한)
+
+- 조회는 캐시에 없을 때만 DB 에서 읽어 채운다.
+- 잔액이 바뀌는 모든 경로는 write(...) 로 새 잔액을 알린다. (write-through)
+  : 커밋이 끝난 뒤에 반영하므로 롤백된 값이 캐시에 남지 않는다.
+- 커밋 후 콜백은 스레드마다 늦게 실행될 수 있으므로 쓰기 순번(sequence)으로 순서를 맞춘다.
+  순번은 행 락을 잡고 있는 동안(커밋 전) 발급되므로 같은 사용자에 대해 커밋 순서와 같다.
+  : 더 최신 쓰기가 이미 반영되어 있으면 늦게 도착한 값은 버린다.
+  : DB 에서 읽어 채운 값과 순서를 판단할 수 없으면 비워서 다음 조회 때 다시 읽게 한다.
+*/
+@Component
+public class PointBalanceCache {
+
+    private final Cache<Long, CachedBalance> cache;
+    private final AtomicLong writeSequence = new AtomicLong();
+
+    public PointBalanceCache(@Value("${point.cache.maximum-size:100000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    public long get(long userId , LongUnaryOperator loader) {
+        return cache.get(userId , id -> {
+            long sequence = writeSequence.get(); //DB 를 읽기 전에 발급된 쓰기는 이 값이 반영됐는지 알 수 없다
+            return new CachedBalance(loader.applyAsLong(id) , sequence , true);
+        }).point();
+    }
+
+    //여러 사용자 조회 : 캐시에 없는 사용자만 한 번에 loader 로 읽는다 (loader 결과에 없는 사용자는 결과에서 빠진다)
+    public Map<Long , Long> getAll(Collection<Long> userIds , Function<Set<Long> , Map<Long , Long>> loader) {
+        Map<Long , CachedBalance> cached = cache.getAll(userIds , missingIds -> {
+            long sequence = writeSequence.get();
+            Map<Long , CachedBalance> loaded = new HashMap<>();
+            loader.apply(Set.copyOf(missingIds)).forEach((id , point) -> loaded.put(id , new CachedBalance(point , sequence , true)));
+            return loaded;
+        });
+
+        Map<Long , Long> points = new HashMap<>();
+        cached.forEach((id , balance) -> points.put(id , balance.point()));
+        return points;
+    }
+
+    public void write(long userId , long point) {
+        long sequence = writeSequence.incrementAndGet();
+        afterCommit(() -> cache.asMap().compute(userId , (id , current) -> {
+            if(current == null || current.sequence() < sequence) return new CachedBalance(point , sequence , false);
+            if(current.loaded()) return null; //DB 에서 읽은 값과 선후를 알 수 없음 -> 비움
+            return current; //더 최신 쓰기가 이미 반영됨
+        }));
+    }
+
+    public void evict(long userId) {
+        writeSequence.incrementAndGet();
+        afterCommit(() -> cache.invalidate(userId));
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+
+    private void afterCommit(Runnable action) {
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    //loaded : DB 조회로 채운 값 (쓰기 순번과 직접 비교할 수 없음)
+    private record CachedBalance(long point , long sequence , boolean loaded) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.restapi.point.infrastructure.cache;
+
+import com.restapi.point.domain.model.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+//User 엔티티가 저장/변경/삭제될 때 잔액 캐시에 반영 (save 를 거치는 모든 경로를 한 곳에서 처리)
+@Component
+public class UserBalanceCacheListener {
+
+    @Autowired
+    PointBalanceCache pointBalanceCache;
+
+    @PostPersist
+    @PostUpdate
+    public void onWrite(User user) {
+        pointBalanceCache.write(user.getUserId() , user.getPoint());
+    }
+
+    @PostRemove
+    public void onRemove(User user) {
+        pointBalanceCache.evict(user.getUserId());
+    }
+}
@@ -0,0 +1,21 @@
+package com.restapi.point.infrastructure.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+//비동기 처리 결과를 동기 호출 경로에서 기다릴 때 사용
+public final class Futures {
+
+    private Futures() {
+    }
+
+    //비동기 실행 중 발생한 BusinessException 등을 감싸지 않고 그대로 다시 던진다
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if(e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+}
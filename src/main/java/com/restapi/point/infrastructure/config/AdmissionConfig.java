@@ -0,0 +1,47 @@
+package com.restapi.point.infrastructure.config;
+
+import com.restapi.point.infrastructure.admission.UserAdmissionControl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+/*
+처리 중 요청 수 한도와 커넥션 풀 크기 , Group Commit 묶음 크기 검증
+
+- 비관락 / 조건부 UPDATE 등은 락을 기다리는 동안 DB 커넥션을 붙잡는다.
+- 사용자별 한도(point.admission.max-in-flight , point.admission.overrides)가 커넥션 풀(spring.datasource.hikari.maximum-pool-size) 이상이면
+  한 사용자에게 몰린 요청만으로 풀이 바닥나 다른 사용자 요청까지 커넥션을 기다리게 된다.
+  : 기본 한도와 사용자별로 따로 준 한도 모두 풀 크기보다 작아야 기동한다.
+- Group Commit 은 사용자별 묶음이므로 한 사용자의 처리 중 충전 수가 곧 묶음 크기의 상한이다.
+  한도가 point.charge.group-commit.max-batch-size 보다 작으면 묶음이 차지 않고 매번 max-wait 까지 기다리므로 기동하지 않는다.
+*/
+@Configuration
+public class AdmissionConfig {
+
+    public AdmissionConfig(@Value("${point.admission.max-in-flight:8}") int maxInFlight ,
+                           @Value("${point.admission.overrides:}") String overrides ,
+                           @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize ,
+                           @Value("${point.charge.group-commit.enabled:false}") boolean groupCommitEnabled ,
+                           @Value("${point.charge.group-commit.max-batch-size:8}") int groupCommitMaxBatchSize) {
+        validate(maxInFlight , UserAdmissionControl.parseOverrides(overrides) , connectionPoolSize , groupCommitEnabled , groupCommitMaxBatchSize);
+    }
+
+    public static void validate(int maxInFlight , Map<Long, Integer> overrides , int connectionPoolSize ,
+                                boolean groupCommitEnabled , int groupCommitMaxBatchSize) {
+        check("point.admission.max-in-flight" , maxInFlight , connectionPoolSize , groupCommitEnabled , groupCommitMaxBatchSize);
+        overrides.forEach((userId , limit) ->
+                check("point.admission.overrides(" + userId + ")" , limit , connectionPoolSize , groupCommitEnabled , groupCommitMaxBatchSize));
+    }
+
+    private static void check(String name , int limit , int connectionPoolSize , boolean groupCommitEnabled , int groupCommitMaxBatchSize) {
+        if(limit >= connectionPoolSize) {
+            throw new IllegalStateException(name + " 한도(" + limit + ")는 커넥션 풀 크기 spring.datasource.hikari.maximum-pool-size("
+                    + connectionPoolSize + ")보다 작아야 합니다.");
+        }
+        if(groupCommitEnabled && limit < groupCommitMaxBatchSize) {
+            throw new IllegalStateException(name + " 한도(" + limit + ")가 point.charge.group-commit.max-batch-size("
+                    + groupCommitMaxBatchSize + ")보다 작으면 Group Commit 묶음이 차지 않습니다.");
+        }
+    }
+}
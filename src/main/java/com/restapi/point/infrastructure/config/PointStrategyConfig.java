@@ -0,0 +1,38 @@
+package com.restapi.point.infrastructure.config;
+
+import com.restapi.point.application.enums.LockStrategy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/*
+동시성 제어 방식 조합 검증
+
+- 원장 모드(LEDGER)는 point_history 가 잔액의 원본이고 users.point 는 갱신하지 않는다.
+- 충전 Group Commit 과 일괄 처리 API 는 users.point 로 잔액을 검증 / 갱신하므로 원장 모드와 함께 켜면 잔액이 어긋난다.
+  : 설정 실수로 조용히 잘못된 잔액을 쓰지 않도록 기동을 중단한다.
+- 일괄 처리 API 는 행 락(FOR UPDATE)으로 직렬화한다. 단건 API 가 JVM 락 안에서 잠그지 않고 읽고 쓰는 방식(SYNCHRONIZED , REENTRANT_LOCK)과
+  함께 켜면 서로의 변경을 덮어쓰므로 같은 이유로 기동을 중단한다. (MAILBOX 는 메일박스 워커가 조건부 UPDATE 로 반영하므로 함께 쓸 수 있다)
+*/
+@Configuration
+public class PointStrategyConfig {
+
+    public PointStrategyConfig(@Value("${point.lock.strategy:PESSIMISTIC_LOCK}") LockStrategy lockStrategy ,
+                               @Value("${point.charge.group-commit.enabled:false}") boolean groupCommitEnabled ,
+                               @Value("${point.batch.enabled:true}") boolean batchEnabled) {
+        validate(lockStrategy , groupCommitEnabled , batchEnabled);
+    }
+
+    public static void validate(LockStrategy lockStrategy , boolean groupCommitEnabled , boolean batchEnabled) {
+        if(batchEnabled && (lockStrategy == LockStrategy.SYNCHRONIZED || lockStrategy == LockStrategy.REENTRANT_LOCK)) {
+            throw new IllegalStateException(lockStrategy + " 방식은 JVM 락만 사용하므로 일괄 처리 API 를 꺼야 합니다. (point.batch.enabled=false 로 실행)");
+        }
+        if(lockStrategy != LockStrategy.LEDGER) return;
+
+        if(groupCommitEnabled) {
+            throw new IllegalStateException("원장 모드(LEDGER)는 충전 Group Commit 과 함께 사용할 수 없습니다. (point.charge.group-commit.enabled=false 로 실행)");
+        }
+        if(batchEnabled) {
+            throw new IllegalStateException("원장 모드(LEDGER)에서는 일괄 처리 API 를 꺼야 합니다. (point.batch.enabled=false 로 실행)");
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.restapi.point.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/*
+virtual 프로파일 실행 환경 검증
+
+- spring.threads.virtual.enabled 는 Java 21 미만에서 경고 없이 무시되어 플랫폼 스레드로 실행된다.
+  : 가상 스레드 결과로 착각하지 않도록 Java 21 미만이면 기동을 중단한다.
+*/
+@Configuration
+@Profile("virtual")
+public class VirtualThreadConfig {
+
+    public static final int REQUIRED_JAVA_VERSION = 21;
+
+    public VirtualThreadConfig() {
+        checkJavaVersion(Runtime.version().feature());
+    }
+
+    public static void checkJavaVersion(int javaVersion) {
+        if(javaVersion < REQUIRED_JAVA_VERSION) {
+            throw new IllegalStateException("virtual 프로파일은 Java " + REQUIRED_JAVA_VERSION + " 이상에서만 실행할 수 있습니다. (현재 Java " + javaVersion + " , -PjavaVersion=21 로 실행)");
+        }
+    }
+}
@@ -15,6 +15,7 @@ public class WebConfig implements WebMvcConfigurer {
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(userInterceptor)
-                .addPathPatterns("/point/**"); // 특정 경로에만 인터셉터 적용
+                .addPathPatterns("/point/**") // 특정 경로에만 인터셉터 적용
+                .excludePathPatterns("/point" , "/point/batch" , "/point/balances"); // 경로에 사용자 id 가 없는 일괄 API (요청 본문/파라미터에서 검증)
     }
 }
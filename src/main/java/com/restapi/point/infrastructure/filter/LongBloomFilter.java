@@ -0,0 +1,89 @@
+package com.restapi.point.infrastructure.filter;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+long 키 전용 Bloom filter (스레드 안전 , 삭제 불가)
+
+- mightContain 이 false 이면 한 번도 put 되지 않은 키 (false negative 없음)
+- true 이면 있을 수도 있음 : 오탐 확률은 비트가 채워질수록 올라간다
+- 비트 수 m , 해시 수 k 는 예상 건수 n 과 목표 오탐률 p 로 계산 (m = -n ln p / (ln 2)^2 , k = m/n ln 2)
+- 해시는 키 하나로 두 값을 만들어 조합한다 (g_i = h1 + i * h2)
+*/
+public class LongBloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+    private final LongAdder insertions = new LongAdder();
+
+    public LongBloomFilter(long expectedInsertions , double falsePositiveRate) {
+        if(expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) throw new IllegalArgumentException("invalid bloom filter size");
+
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8 , (bits + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitSize = (long) wordCount * 64;
+        this.hashCount = Math.max(1 , (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    public void put(long key) {
+        long h1 = mix(key);
+        long h2 = mix(h1) | 1; //홀수로 맞춰 비트 위치가 한 곳에 몰리지 않도록
+        boolean changed = false;
+        for(int i = 0 ; i < hashCount ; i++) {
+            changed |= setBit(Long.remainderUnsigned(h1 + i * h2 , bitSize));
+        }
+        if(changed) insertions.increment(); //이미 모든 비트가 켜져 있으면 중복(또는 구분 불가)으로 보고 세지 않는다
+    }
+
+    public boolean mightContain(long key) {
+        long h1 = mix(key);
+        long h2 = mix(h1) | 1;
+        for(int i = 0 ; i < hashCount ; i++) {
+            long index = Long.remainderUnsigned(h1 + i * h2 , bitSize);
+            if((words.get((int) (index >>> 6)) & (1L << index)) == 0) return false;
+        }
+        return true;
+    }
+
+    //현재 채워진 비트 비율로 계산한 오탐 확률 : (켜진 비트 / 전체 비트)^k
+    public double estimatedFalsePositiveRate() {
+        long bitCount = 0;
+        for(int i = 0 ; i < words.length() ; i++) {
+            bitCount += Long.bitCount(words.get(i));
+        }
+        return Math.pow((double) bitCount / bitSize , hashCount);
+    }
+
+    public long getInsertions() {
+        return insertions.sum();
+    }
+
+    public long getBitSize() {
+        return bitSize;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    private boolean setBit(long index) {
+        int wordIndex = (int) (index >>> 6);
+        long mask = 1L << index;
+        while(true) {
+            long current = words.get(wordIndex);
+            if((current & mask) != 0) return false;
+            if(words.compareAndSet(wordIndex , current , current | mask)) return true;
+        }
+    }
+
+    //SplitMix64 finalizer : 연속된 id 도 비트가 고르게 퍼지도록 섞는다
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,93 @@
+package com.restapi.point.infrastructure.filter;
+
+import com.restapi.point.domain.service.UserService;
+import com.restapi.point.infrastructure.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/*
+없는 사용자 요청 사전 차단 필터 (point.user-filter.enabled=true 일 때만 등록)
+
+- 기동 시 전체 사용자 id 를 Bloom filter 에 적재하고 , 이후 생성되는 사용자는 엔티티 리스너로 추가한다.
+- 적재가 끝나기 전에는 모든 요청을 통과시킨다. (없는 사용자는 기존처럼 서비스에서 NO_USER)
+- 필터가 "없음" 이라고 하면 DB 를 거치지 않고 거절할 수 있다.
+- "있을 수도 있음" 응답 중 일부(verify-sample-rate)는 UserService.isUserExists 로 확인해 실제 오탐률을 집계한다.
+*/
+@Component
+@ConditionalOnProperty(prefix = "point.user-filter" , name = "enabled" , havingValue = "true")
+public class UserExistenceFilter {
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    UserService userService;
+
+    private final LongBloomFilter bloomFilter;
+    private final long expectedInsertions;
+    private final double verifySampleRate;
+    private volatile boolean ready;
+
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder verifiedCount = new LongAdder();
+    private final LongAdder falsePositiveCount = new LongAdder();
+
+    public UserExistenceFilter(@Value("${point.user-filter.expected-insertions:1000000}") long expectedInsertions ,
+                               @Value("${point.user-filter.false-positive-rate:0.01}") double falsePositiveRate ,
+                               @Value("${point.user-filter.verify-sample-rate:0.01}") double verifySampleRate) {
+        this.bloomFilter = new LongBloomFilter(expectedInsertions , falsePositiveRate);
+        this.expectedInsertions = expectedInsertions;
+        this.verifySampleRate = verifySampleRate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        try (Stream<Long> userIds = userRepository.streamAllUserIds()) {
+            userIds.forEach(bloomFilter::put);
+        }
+        ready = true;
+    }
+
+    public void add(long userId) {
+        bloomFilter.put(userId);
+    }
+
+    //false 이면 확실히 없는 사용자
+    public boolean mightExist(long userId) {
+        if(!ready) return true;
+
+        if(!bloomFilter.mightContain(userId)) {
+            rejectedCount.increment();
+            return false;
+        }
+
+        if(ThreadLocalRandom.current().nextDouble() < verifySampleRate) {
+            verifiedCount.increment();
+            if(!userService.isUserExists(userId)) falsePositiveCount.increment();
+        }
+        return true;
+    }
+
+    public FilterStats getStats() {
+        long verified = verifiedCount.sum();
+        long falsePositives = falsePositiveCount.sum();
+        return new FilterStats(ready , expectedInsertions , bloomFilter.getInsertions() ,
+                bloomFilter.estimatedFalsePositiveRate() , rejectedCount.sum() , verified , falsePositives ,
+                verified == 0 ? 0 : (double) falsePositives / verified);
+    }
+
+    //estimatedFalsePositiveRate : 비트 점유율로 계산한 값 , observedFalsePositiveRate : 표본 확인 결과 (없는 사용자 / 확인 건수)
+    public record FilterStats(boolean ready , long expectedInsertions , long insertions , double estimatedFalsePositiveRate ,
+                              long rejected , long verified , long falsePositives , double observedFalsePositiveRate) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.restapi.point.infrastructure.filter;
+
+import com.restapi.point.domain.model.User;
+import jakarta.persistence.PostPersist;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+//새로 저장된 사용자를 존재 필터에 추가 (필터가 비활성화된 경우 아무것도 하지 않음)
+@Component
+public class UserExistenceFilterListener {
+
+    @Autowired(required = false)
+    UserExistenceFilter userExistenceFilter;
+
+    @PostPersist
+    public void onCreate(User user) {
+        if(userExistenceFilter != null) userExistenceFilter.add(user.getUserId());
+    }
+}
@@ -0,0 +1,84 @@
+package com.restapi.point.infrastructure.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.restapi.point.application.enums.Messages;
+import com.restapi.point.application.exception.BusinessException;
+import com.restapi.point.infrastructure.concurrent.Futures;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/*
+Idempotency-Key 중복 요청 저장소 (Caffeine : 최대 크기 + TTL)
+
+- 처음 들어온 요청만 실제로 실행하고 결과(또는 다시 실행해도 같은 BusinessException : 400 , 422)를 저장한다.
+- 같은 키로 다시 들어온 요청은 저장된 결과를 그대로 돌려준다.
+- 첫 요청이 아직 실행 중이면 행 락을 다투지 않고 그 결과를 기다린다.
+- 같은 키에 다른 요청 내용(fingerprint)이 오면 거절한다.
+- 일시적인 거절(409 충돌 , 429 락 대기 초과 / 처리 중 요청 수 초과 등)과 BusinessException 이 아닌 오류(DB 장애 등)는 저장하지 않는다.
+  : 재시도 시 다시 실행 (실행 중에 기다리던 중복 요청은 같은 오류를 받는다)
+*/
+@Component
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final Cache<String, Entry> cache;
+
+    public IdempotencyStore(@Value("${point.idempotency.maximum-size:100000}") long maximumSize ,
+                            @Value("${point.idempotency.ttl-seconds:86400}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    //키는 작업 종류 + 사용자 단위로 구분한다 (다른 사용자가 같은 키를 써도 섞이지 않도록)
+    public static String scopedKey(String operation , long userId , String idempotencyKey) {
+        if(idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) throw new BusinessException(400 , Messages.BAD_REQUEST);
+        return operation + ":" + userId + ":" + idempotencyKey;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key , long fingerprint , Supplier<T> action) {
+        Entry created = new Entry(fingerprint , new CompletableFuture<>());
+        Entry entry = cache.asMap().putIfAbsent(key , created);
+
+        if(entry != null) { //중복 요청 : 첫 요청의 결과를 기다려서 그대로 돌려준다
+            if(entry.fingerprint() != fingerprint) throw new BusinessException(422 , Messages.IDEMPOTENCY_KEY_REUSED);
+            return (T) Futures.join(entry.result());
+        }
+
+        try {
+            T result = action.get();
+            created.result().complete(result);
+            return result;
+        } catch (BusinessException e) {
+            if(!isDeterministic(e)) cache.asMap().remove(key , created);
+            created.result().completeExceptionally(e);
+            throw e;
+        } catch (RuntimeException | Error e) {
+            cache.asMap().remove(key , created);
+            created.result().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+
+    //같은 요청을 다시 실행해도 같은 결과가 나오는 오류 (잘못된 요청 , 잔액 부족 , 키 재사용 등)
+    private static boolean isDeterministic(BusinessException e) {
+        return e.getErrorCode() == 400 || e.getErrorCode() == 422;
+    }
+
+    //fingerprint : 같은 키로 들어온 요청이 처음 요청과 같은지 비교하는 값
+    private record Entry(long fingerprint , CompletableFuture<Object> result) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.restapi.point.infrastructure.interceptor;
+
+import com.restapi.point.application.enums.Messages;
+import com.restapi.point.application.exception.BusinessException;
+
+/*
+요청 URI 에서 사용자 id 추출 (/point/{id}/...)
+
+- split / substring 없이 인덱스만 이동하며 숫자를 직접 누적한다. (정상 경로에서 객체 생성 없음)
+- Long.parseLong 과 같은 규칙 : 부호 허용 , long 범위를 넘으면 실패 (음수로 누적해 MIN_VALUE 까지 처리)
+- 형식이 잘못된 경우에만 BusinessException(400 , BAD_REQUEST)
+*/
+public final class UserIdParser {
+
+    private UserIdParser() {
+    }
+
+    //두 번째 경로 구간 (첫 번째 '/' 이후 두 번째 '/' 다음부터 다음 '/' 전까지)
+    public static long parse(String requestURI) {
+        int second = requestURI.indexOf('/' , 1);
+        if(second < 0) throw badRequest();
+
+        int start = second + 1;
+        int end = requestURI.indexOf('/' , start);
+        if(end < 0) end = requestURI.length();
+        if(start >= end) throw badRequest(); // 사용자 id 가 누락된 경우
+
+        int index = start;
+        boolean negative = false;
+        char first = requestURI.charAt(index);
+        if(first == '-' || first == '+') {
+            negative = first == '-';
+            if(++index == end) throw badRequest();
+        }
+
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyMin = limit / 10;
+        long result = 0;
+        for(; index < end ; index++) {
+            int digit = requestURI.charAt(index) - '0';
+            if(digit < 0 || digit > 9) throw badRequest(); // 사용자 id 가 숫자가 아닌 경우
+            if(result < multiplyMin) throw badRequest();  // 사용자 id가 long범위를 넘어서는 경우
+            result *= 10;
+            if(result < limit + digit) throw badRequest();
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    private static BusinessException badRequest() {
+        return new BusinessException(400 , Messages.BAD_REQUEST);
+    }
+}
@@ -2,32 +2,34 @@ package com.restapi.point.infrastructure.interceptor;
 
 import com.restapi.point.application.enums.Messages;
 import com.restapi.point.application.exception.BusinessException;
+import com.restapi.point.infrastructure.filter.UserExistenceFilter;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
 @Component
 public class UserInterceptor implements HandlerInterceptor {
+
+    public static final String USER_ID = "point.userId"; //검증된 사용자 id 요청 속성 이름
+
+    //point.user-filter.enabled=true 일 때만 주입 (없으면 id 형식만 검증)
+    @Autowired(required = false)
+    UserExistenceFilter userExistenceFilter;
+
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
 
-        String requestURI = request.getRequestURI();
-        String[] uriParts = requestURI.split("/");
-
-        // 사용자 id 가 누락된 경우
-        if(uriParts.length <= 1) {
-            throw new BusinessException(400 , Messages.BAD_REQUEST);
-        }
+        // 사용자 id 누락 / 숫자가 아님 / long 범위 초과 -> BAD_REQUEST
+        long userId = UserIdParser.parse(request.getRequestURI());
 
-        try {
-            // 사용자 id 가 숫자가 아닌 경우
-            // 사용자 id가 long범위를 넘어서는 경우
-            long userId = Long.parseLong(uriParts[2]);
-        } catch(Exception e) {
-            throw new BusinessException(400 , Messages.BAD_REQUEST);
+        // 확실히 없는 사용자는 DB 조회 없이 거절
+        if(userExistenceFilter != null && !userExistenceFilter.mightExist(userId)) {
+            throw new BusinessException(400 , Messages.NO_USER);
         }
 
+        request.setAttribute(USER_ID , userId); // 컨트롤러에서 @RequestAttribute 로 다시 파싱하지 않고 사용
         return true;
     }
 }
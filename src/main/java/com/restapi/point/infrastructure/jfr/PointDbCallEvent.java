@@ -0,0 +1,41 @@
+package com.restapi.point.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/*
+JFR 이벤트 : 리포지토리 호출 (이벤트 duration = 호출 시간)
+
+- method : "리포지토리.메소드" , rowCount : 조회/반영된 행 수
+*/
+@Name("com.restapi.point.PointDbCall")
+@Label("Point DB Call")
+@Category({"Point" , "Persistence"})
+@Description("포인트 처리 중 리포지토리 호출 시간과 행 수")
+public class PointDbCallEvent extends Event {
+
+    @Label("User Id")
+    long userId;
+
+    @Label("Repository Method")
+    String method;
+
+    @Label("Row Count")
+    long rowCount;
+
+    public static PointDbCallEvent begin(long userId , String method) {
+        PointDbCallEvent event = new PointDbCallEvent();
+        event.userId = userId;
+        event.method = method;
+        event.begin();
+        return event;
+    }
+
+    public void end(long rowCount) {
+        this.rowCount = rowCount;
+        commit();
+    }
+}
@@ -0,0 +1,66 @@
+package com.restapi.point.infrastructure.jfr;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Recording;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/*
+JFR 상시 기록 (jfr 프로파일)
+
+- 기동 시 PointLockWait / PointDbCall 이벤트만 켠 기록을 시작한다. (링 버퍼 : max-age , max-size 를 넘는 오래된 구간은 버린다)
+- threshold 보다 짧은 이벤트는 기록하지 않는다. (지연이 튄 요청만 남겨서 버퍼를 오래 유지)
+- GET /actuator/pointjfr : 현재 버퍼를 .jfr 파일로 내려받는다. (JDK Mission Control , jfr print 로 분석)
+*/
+@Component
+@Profile("jfr")
+@Endpoint(id = "pointjfr")
+public class PointFlightRecording {
+
+    private final Recording recording;
+    private Path lastDump; //직전 덤프 파일 (새로 덤프할 때 지운다)
+
+    public PointFlightRecording(@Value("${point.jfr.max-age-minutes:30}") long maxAgeMinutes ,
+                                @Value("${point.jfr.max-size-mb:100}") long maxSizeMb ,
+                                @Value("${point.jfr.threshold-millis:1}") long thresholdMillis) {
+        this.recording = new Recording();
+        recording.setName("point");
+        recording.setToDisk(true);
+        recording.setMaxAge(Duration.ofMinutes(maxAgeMinutes));
+        recording.setMaxSize(maxSizeMb * 1024 * 1024);
+        recording.enable(PointLockWaitEvent.class).withThreshold(Duration.ofMillis(thresholdMillis)).withStackTrace();
+        recording.enable(PointDbCallEvent.class).withThreshold(Duration.ofMillis(thresholdMillis)).withStackTrace();
+        recording.start();
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized WebEndpointResponse<Resource> dump() {
+        try {
+            if(lastDump != null) Files.deleteIfExists(lastDump);
+            Path file = Files.createTempFile("point-" , ".jfr");
+            file.toFile().deleteOnExit();
+            recording.dump(file);
+            lastDump = file;
+            return new WebEndpointResponse<>(new FileSystemResource(file));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        recording.close();
+    }
+}
@@ -0,0 +1,38 @@
+package com.restapi.point.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/*
+JFR 이벤트 : 락 획득 대기 (이벤트 duration = 대기 시간)
+
+- 기록 중이 아니면 begin / commit 은 거의 비용이 없다. (JFR 이 이벤트 비활성 상태를 먼저 확인)
+- 지표(point.lock.wait)는 평균/백분위만 보여주므로 , 지연이 튄 요청의 사용자 id 는 이 이벤트로 찾는다.
+*/
+@Name("com.restapi.point.PointLockWait")
+@Label("Point Lock Wait")
+@Category({"Point" , "Lock"})
+@Description("포인트 충전/사용 중 락 획득까지 기다린 시간")
+public class PointLockWaitEvent extends Event {
+
+    @Label("User Id")
+    long userId;
+
+    @Label("Strategy")
+    String strategy;
+
+    public static PointLockWaitEvent begin(long userId , String strategy) {
+        PointLockWaitEvent event = new PointLockWaitEvent();
+        event.userId = userId;
+        event.strategy = strategy;
+        event.begin();
+        return event;
+    }
+
+    public void end() {
+        commit();
+    }
+}
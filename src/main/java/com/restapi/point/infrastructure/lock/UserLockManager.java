@@ -0,0 +1,103 @@
+package com.restapi.point.infrastructure.lock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+사용자별 락 관리 (Lock Striping)
+
+- 사용자 수와 상관없이 고정 개수(stripes)의 ReentrantLock 만 사용한다. (메모리 고정)
+- 같은 사용자는 항상 같은 스트라이프에 매핑되므로 사용자 단위 상호배제는 유지된다.
+- 서로 다른 사용자가 같은 스트라이프를 공유하면 불필요하게 직렬화된다 -> collisions 로 집계
+*/
+@Component
+public class UserLockManager {
+
+    private static final long NO_HOLDER = Long.MIN_VALUE;
+
+    private final ReentrantLock[] stripes;
+    private final AtomicLongArray holders; //스트라이프를 점유 중인 사용자 id
+    private final int mask;
+
+    private final LongAdder collisions = new LongAdder();
+    private final AtomicInteger liveEntries = new AtomicInteger();
+
+    public UserLockManager(@Value("${point.lock.stripes:1024}") int stripeCount) {
+        if (stripeCount <= 0) throw new IllegalArgumentException("stripe 개수는 1 이상이어야 합니다.");
+
+        int size = 1;
+        while (size < stripeCount) size <<= 1; //인덱스 계산을 위해 2의 제곱수로 맞춘다
+
+        this.stripes = new ReentrantLock[size];
+        this.holders = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+            holders.set(i, NO_HOLDER);
+        }
+        this.mask = size - 1;
+    }
+
+    public void lock(long userId) {
+        int index = indexOf(userId);
+        ReentrantLock stripe = stripes[index];
+
+        //다른 사용자가 잡고 있는 스트라이프를 기다리는 경우
+        if (stripe.isLocked() && holders.get(index) != userId) collisions.increment();
+
+        stripe.lock();
+        if (stripe.getHoldCount() == 1) {
+            holders.set(index, userId);
+            liveEntries.incrementAndGet();
+        }
+    }
+
+    //제한 시간 안에 락을 얻지 못하면 false (인터럽트된 경우도 false , 인터럽트 상태는 유지)
+    public boolean tryLock(long userId, long timeoutMillis) {
+        int index = indexOf(userId);
+        ReentrantLock stripe = stripes[index];
+
+        if (stripe.isLocked() && holders.get(index) != userId) collisions.increment();
+
+        try {
+            if (!stripe.tryLock(timeoutMillis, TimeUnit.MILLISECONDS)) return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        if (stripe.getHoldCount() == 1) {
+            holders.set(index, userId);
+            liveEntries.incrementAndGet();
+        }
+        return true;
+    }
+
+    public void unlock(long userId) {
+        int index = indexOf(userId);
+        ReentrantLock stripe = stripes[index];
+
+        if (stripe.getHoldCount() == 1) {
+            holders.set(index, NO_HOLDER);
+            liveEntries.decrementAndGet();
+        }
+        stripe.unlock();
+    }
+
+    public LockStats getStats() {
+        return new LockStats(stripes.length, collisions.sum(), liveEntries.get());
+    }
+
+    int indexOf(long userId) {
+        long hash = userId * 0x9E3779B97F4A7C15L; //연속된 id 가 인접 스트라이프에 몰리지 않도록 섞는다
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    //stripes : 전체 스트라이프 수 , collisions : 다른 사용자와 스트라이프가 겹쳐 대기한 횟수 , liveEntries : 현재 점유 중인 스트라이프 수
+    public record LockStats(int stripes, long collisions, int liveEntries) {
+    }
+}
@@ -0,0 +1,130 @@
+package com.restapi.point.infrastructure.mailbox;
+
+import com.restapi.point.application.enums.Messages;
+import com.restapi.point.application.exception.BusinessException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/*
+사용자별 단일 작성자(single-writer) 메일박스
+
+- 한 사용자에게 들어온 명령은 그 사용자의 메일박스에 쌓이고, 한 번에 하나의 워커만 꺼내 처리한다.
+- 같은 사용자의 명령은 도착 순서대로 직렬 실행되므로 락 / synchronized 가 필요 없다.
+- 요청 스레드는 CompletableFuture 만 받고 바로 반환된다.
+- 워커는 drainBatchSize 만큼 처리한 뒤 다른 사용자에게 양보한다. (hot user 가 워커를 독점하지 않도록)
+- 비어있는 메일박스는 제거되므로 메모리는 처리 중인 사용자 수에만 비례한다.
+- 한 사용자의 대기 명령이 maxQueueSize 에 차면 적재하지 않고 MAILBOX_FULL(429)로 거절한다. (hot user 한 명이 메모리를 무한히 쓰지 않도록)
+*/
+@Component
+public class UserMailboxExecutor {
+
+    private final ConcurrentHashMap<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final ExecutorService workers;
+    private final int drainBatchSize;
+    private final int maxQueueSize;
+
+    public UserMailboxExecutor(@Value("${point.mailbox.workers:16}") int workerCount ,
+                               @Value("${point.mailbox.drain-batch-size:64}") int drainBatchSize ,
+                               @Value("${point.mailbox.max-queue-size:1024}") int maxQueueSize) {
+        if(maxQueueSize <= 0) throw new IllegalArgumentException("메일박스 최대 대기 명령 수는 1 이상이어야 합니다.");
+
+        this.workers = Executors.newFixedThreadPool(workerCount , new MailboxThreadFactory());
+        this.drainBatchSize = drainBatchSize;
+        this.maxQueueSize = maxQueueSize;
+    }
+
+    public <T> CompletableFuture<T> submit(long userId , Supplier<T> command) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Runnable task = () -> {
+            try {
+                future.complete(command.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        };
+
+        //메일박스 생성 / 적재 / 스케줄 여부 결정은 같은 키의 compute 안에서만 일어난다
+        boolean[] needSchedule = {false};
+        boolean[] rejected = {false};
+        mailboxes.compute(userId , (id , mailbox) -> {
+            if(mailbox == null) mailbox = new Mailbox();
+            if(mailbox.size.get() >= maxQueueSize) {
+                rejected[0] = true;
+                return mailbox;
+            }
+            mailbox.queue.add(task);
+            mailbox.size.incrementAndGet();
+            if(!mailbox.scheduled) {
+                mailbox.scheduled = true;
+                needSchedule[0] = true;
+            }
+            return mailbox;
+        });
+
+        if(rejected[0]) throw new BusinessException(429 , Messages.MAILBOX_FULL);
+        if(needSchedule[0]) workers.execute(() -> drain(userId));
+        return future;
+    }
+
+    private void drain(long userId) {
+        Mailbox mailbox = mailboxes.get(userId);
+        for(int i = 0 ; i < drainBatchSize ; i++) {
+            Runnable task = mailbox.queue.poll();
+            if(task == null) break;
+            mailbox.size.decrementAndGet();
+            task.run();
+        }
+
+        //남은 명령이 있으면 다시 스케줄 , 없으면 메일박스 제거
+        boolean[] needSchedule = {false};
+        mailboxes.compute(userId , (id , current) -> {
+            if(current.queue.isEmpty()) return null;
+            needSchedule[0] = true;
+            return current;
+        });
+
+        if(needSchedule[0]) workers.execute(() -> drain(userId));
+    }
+
+    public int getActiveMailboxCount() {
+        return mailboxes.size();
+    }
+
+    public int getQueueSize(long userId) {
+        Mailbox mailbox = mailboxes.get(userId);
+        return mailbox == null ? 0 : mailbox.size.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    private static class Mailbox {
+        private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger(); //ConcurrentLinkedQueue.size() 는 O(n) 이므로 따로 센다
+        private boolean scheduled; //compute 안에서만 읽고 쓴다
+    }
+
+    private static class MailboxThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable , "point-mailbox-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.restapi.point.infrastructure.metrics;
+
+import com.restapi.point.application.exception.BusinessException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/*
+포인트 처리 지표 (Micrometer -> /actuator/prometheus)
+
+- point.request        : 충전/사용/조회/일괄 처리 시간 (operation , strategy , outcome) , 비동기 충전/사용은 future 가 끝날 때까지
+- point.rejections     : BusinessException 으로 거절된 요청 수 (operation , strategy , code = Messages 이름)
+- point.lock.wait      : 락 획득 대기 시간 (lock = global | user | pessimistic)
+- point.db             : 트랜잭션 / 쿼리 실행 시간 (query)
+- point.history.insert : 내역 INSERT + 집계 MERGE 시간
+- 히스토그램 / 백분위 설정은 application.properties 의 management.metrics.distribution.*.point 로 한다.
+*/
+@Component
+public class PointMetrics {
+
+    public static final String SUCCESS = "success";
+    public static final String NO_STRATEGY = "none"; //동시성 제어 방식과 관계없는 조회
+
+    private final MeterRegistry meterRegistry;
+
+    public PointMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    //처리 시간 기록 + 거절 시 Messages 코드별 카운트
+    public <T> T timeOperation(String operation , String strategy , Supplier<T> action) {
+        long startedAt = System.nanoTime();
+        try {
+            T result = action.get();
+            recordOperation(operation , strategy , startedAt , null);
+            return result;
+        } catch (RuntimeException | Error e) {
+            recordOperation(operation , strategy , startedAt , e);
+            throw e;
+        }
+    }
+
+    //비동기 처리 : 요청 시점부터 future 가 끝날 때까지를 기록 (적재 전에 바로 거절된 경우도 포함)
+    public <T> CompletableFuture<T> timeAsyncOperation(String operation , String strategy , Supplier<CompletableFuture<T>> action) {
+        long startedAt = System.nanoTime();
+        try {
+            return action.get().whenComplete((result , e) -> recordOperation(operation , strategy , startedAt , e));
+        } catch (RuntimeException | Error e) {
+            recordOperation(operation , strategy , startedAt , e);
+            throw e;
+        }
+    }
+
+    private void recordOperation(String operation , String strategy , long startedAt , Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        String outcome = SUCCESS;
+        if(cause instanceof BusinessException e) {
+            outcome = e.getReason().name();
+            meterRegistry.counter("point.rejections" , "operation" , operation , "strategy" , strategy , "code" , outcome).increment();
+        } else if(cause != null) {
+            outcome = cause.getClass().getSimpleName();
+        }
+        Timer.builder("point.request")
+                .tags("operation" , operation , "strategy" , strategy , "outcome" , outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt , TimeUnit.NANOSECONDS);
+    }
+
+    public void recordLockWait(String lock , long waitNanos) {
+        Timer.builder("point.lock.wait")
+                .tag("lock" , lock)
+                .register(meterRegistry)
+                .record(waitNanos , TimeUnit.NANOSECONDS);
+    }
+
+    //락 대기 시간이 포함되는 조회 (ex. SELECT ... FOR UPDATE)
+    public <T> T timeLockWait(String lock , Supplier<T> action) {
+        long startedAt = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            recordLockWait(lock , System.nanoTime() - startedAt);
+        }
+    }
+
+    public <T> T timeDb(String query , Supplier<T> action) {
+        return time(Timer.builder("point.db").tag("query" , query).register(meterRegistry) , action);
+    }
+
+    public void timeHistoryInsert(Runnable action) {
+        time(Timer.builder("point.history.insert").register(meterRegistry) , () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private <T> T time(Timer timer , Supplier<T> action) {
+        long startedAt = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            timer.record(System.nanoTime() - startedAt , TimeUnit.NANOSECONDS);
+        }
+    }
+}
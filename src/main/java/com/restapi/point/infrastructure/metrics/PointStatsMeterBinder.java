@@ -0,0 +1,65 @@
+package com.restapi.point.infrastructure.metrics;
+
+import com.restapi.point.domain.service.PointChargeGroupCommitter;
+import com.restapi.point.infrastructure.cache.PointBalanceCache;
+import com.restapi.point.infrastructure.filter.UserExistenceFilter;
+import com.restapi.point.infrastructure.lock.UserLockManager;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/*
+컴포넌트 내부 통계(getStats)를 point.* 지표로 노출 (Spring Boot 가 MeterBinder 빈을 레지스트리에 연결한다)
+
+- point.lock.stripes / point.lock.collisions / point.lock.live.entries          : 사용자별 락 스트라이프
+- point.cache.size / hits / misses / evictions / hit.ratio                       : 잔액 캐시
+- point.group.commit.batches / charges / largest.batch.size                     : 충전 Group Commit
+- point.user.filter.insertions / rejected / estimated / observed.false.positive.rate : 없는 사용자 필터 (켜져 있을 때만)
+- 값은 스크레이프할 때 getStats() 로 읽는다. (요청 처리 경로에는 비용이 없다)
+*/
+@Component
+public class PointStatsMeterBinder implements MeterBinder {
+
+    private final UserLockManager userLockManager;
+    private final PointBalanceCache pointBalanceCache;
+    private final PointChargeGroupCommitter pointChargeGroupCommitter;
+    private final Optional<UserExistenceFilter> userExistenceFilter; //point.user-filter.enabled=true 일 때만 빈이 있다
+
+    public PointStatsMeterBinder(UserLockManager userLockManager ,
+                                 PointBalanceCache pointBalanceCache ,
+                                 PointChargeGroupCommitter pointChargeGroupCommitter ,
+                                 Optional<UserExistenceFilter> userExistenceFilter) {
+        this.userLockManager = userLockManager;
+        this.pointBalanceCache = pointBalanceCache;
+        this.pointChargeGroupCommitter = pointChargeGroupCommitter;
+        this.userExistenceFilter = userExistenceFilter;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("point.lock.stripes" , userLockManager , lock -> lock.getStats().stripes()).register(registry);
+        FunctionCounter.builder("point.lock.collisions" , userLockManager , lock -> lock.getStats().collisions()).register(registry);
+        Gauge.builder("point.lock.live.entries" , userLockManager , lock -> lock.getStats().liveEntries()).register(registry);
+
+        Gauge.builder("point.cache.size" , pointBalanceCache , PointBalanceCache::getSize).register(registry);
+        FunctionCounter.builder("point.cache.hits" , pointBalanceCache , cache -> cache.getStats().hitCount()).register(registry);
+        FunctionCounter.builder("point.cache.misses" , pointBalanceCache , cache -> cache.getStats().missCount()).register(registry);
+        FunctionCounter.builder("point.cache.evictions" , pointBalanceCache , cache -> cache.getStats().evictionCount()).register(registry);
+        Gauge.builder("point.cache.hit.ratio" , pointBalanceCache , cache -> cache.getStats().hitRate()).register(registry);
+
+        FunctionCounter.builder("point.group.commit.batches" , pointChargeGroupCommitter , committer -> committer.getStats().batches()).register(registry);
+        FunctionCounter.builder("point.group.commit.charges" , pointChargeGroupCommitter , committer -> committer.getStats().charges()).register(registry);
+        Gauge.builder("point.group.commit.largest.batch.size" , pointChargeGroupCommitter , committer -> committer.getStats().largestBatchSize()).register(registry);
+
+        userExistenceFilter.ifPresent(filter -> {
+            Gauge.builder("point.user.filter.insertions" , filter , f -> f.getStats().insertions()).register(registry);
+            FunctionCounter.builder("point.user.filter.rejected" , filter , f -> f.getStats().rejected()).register(registry);
+            Gauge.builder("point.user.filter.estimated.false.positive.rate" , filter , f -> f.getStats().estimatedFalsePositiveRate()).register(registry);
+            Gauge.builder("point.user.filter.observed.false.positive.rate" , filter , f -> f.getStats().observedFalsePositiveRate()).register(registry);
+        });
+    }
+}
@@ -0,0 +1,16 @@
+package com.restapi.point.infrastructure.repository;
+
+import com.restapi.point.domain.model.BalanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface BalanceSnapshotRepository extends JpaRepository<BalanceSnapshot, Long> {
+
+    //스냅샷 이후 내역이 threshold 건 이상 쌓인 사용자 ((user_id , id) 인덱스로 사용자별 범위만 센다)
+    @Query("SELECT s.userId FROM BalanceSnapshot s WHERE " +
+            "(SELECT COUNT(p) FROM PointHistory p WHERE p.userId = s.userId AND p.id > s.lastHistoryId) >= :threshold")
+    List<Long> findUserIdsNeedingSnapshot(@Param("threshold") long threshold);
+}
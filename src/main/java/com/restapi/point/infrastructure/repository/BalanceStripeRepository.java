@@ -0,0 +1,31 @@
+package com.restapi.point.infrastructure.repository;
+
+import com.restapi.point.domain.model.BalanceStripe;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface BalanceStripeRepository extends JpaRepository<BalanceStripe, BalanceStripe.Key>, BalanceStripeRepositoryCustom {
+
+    //스트라이프 하나에 충전 (H2 FINAL TABLE) , 빈 값이면 아직 스트라이프가 없는 사용자
+    @Transactional
+    @Query(value = "SELECT point FROM FINAL TABLE (UPDATE point_balance_stripe SET point = point + :amount WHERE user_id = :userId AND stripe = :stripe)" , nativeQuery = true)
+    Optional<Long> chargeStripe(@Param("userId") long userId , @Param("stripe") int stripe , @Param("amount") long amount);
+
+    //스트라이프 하나에서만 차감 (그 스트라이프 잔액이 충분할 때만) , 빈 값이면 다른 스트라이프에서 빌려야 한다
+    @Transactional
+    @Query(value = "SELECT point FROM FINAL TABLE (UPDATE point_balance_stripe SET point = point - :amount WHERE user_id = :userId AND stripe = :stripe AND point >= :amount)" , nativeQuery = true)
+    Optional<Long> useStripeIfEnough(@Param("userId") long userId , @Param("stripe") int stripe , @Param("amount") long amount);
+
+    //스트라이프가 있는 사용자 id (기동 시 분할 대상에서 빠진 계정 확인용)
+    @Query("SELECT DISTINCT s.userId FROM BalanceStripe s")
+    List<Long> findStripedUserIds();
+
+    //잔액 = 모든 스트라이프 합계 (스트라이프가 없으면 빈 값)
+    @Query("SELECT SUM(s.point) FROM BalanceStripe s WHERE s.userId = :userId")
+    Optional<Long> sumByUserId(@Param("userId") long userId);
+}
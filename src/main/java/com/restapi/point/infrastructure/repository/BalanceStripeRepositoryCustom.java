@@ -0,0 +1,12 @@
+package com.restapi.point.infrastructure.repository;
+
+import com.restapi.point.domain.model.BalanceStripe;
+
+import java.util.List;
+
+public interface BalanceStripeRepositoryCustom {
+
+    //빌려오기 / 재분배 : 사용자의 모든 스트라이프를 스트라이프 순서대로 잠근다 (교착 방지)
+    // - point.lock.timeout-millis 안에 행 락을 얻지 못하면 PessimisticLockingFailureException
+    List<BalanceStripe> findAllByUserIdForUpdate(long userId);
+}
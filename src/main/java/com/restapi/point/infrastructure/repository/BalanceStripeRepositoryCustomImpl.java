@@ -0,0 +1,31 @@
+package com.restapi.point.infrastructure.repository;
+
+import com.restapi.point.domain.model.BalanceStripe;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.List;
+
+/*
+BalanceStripeRepository 구현 조각 : UserRepositoryCustomImpl 과 같이 설정 값으로 락 대기 시간을 건다.
+*/
+public class BalanceStripeRepositoryCustomImpl implements BalanceStripeRepositoryCustom {
+
+    @PersistenceContext
+    EntityManager entityManager;
+
+    @Value("${point.lock.timeout-millis:3000}")
+    long lockTimeoutMillis;
+
+    @Override
+    public List<BalanceStripe> findAllByUserIdForUpdate(long userId) {
+        return entityManager.createQuery("SELECT s FROM BalanceStripe s WHERE s.userId = :userId ORDER BY s.stripe" , BalanceStripe.class)
+                .setParameter("userId" , userId)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(SpecHints.HINT_SPEC_LOCK_TIMEOUT , lockTimeoutMillis)
+                .getResultList();
+    }
+}
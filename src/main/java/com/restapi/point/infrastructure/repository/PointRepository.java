@@ -1,12 +1,40 @@
 package com.restapi.point.infrastructure.repository;
 
 import com.restapi.point.domain.model.PointHistory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface PointRepository extends JpaRepository<PointHistory , Long> {
 
     List<PointHistory> findByUserId(long userId);
 
+    //키셋 페이지네이션 : (user_id , id) 기준으로 afterId 다음 내역부터 limit 건
+    List<PointHistory> findByUserIdAndIdGreaterThanOrderByIdAsc(long userId , long afterId , Limit limit);
+
+    //전체 내역 스트리밍 : 커서로 fetchSize 만큼씩 읽는다 (트랜잭션 안에서 사용하고 반드시 close)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE , value = "500") ,
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY , value = "true")
+    })
+    @Query("SELECT p FROM PointHistory p WHERE p.userId = :userId ORDER BY p.id")
+    Stream<PointHistory> streamByUserId(@Param("userId") long userId);
+
+    //원장 모드 : afterId 이후 내역의 잔액 변화량(충전 + , 사용 -)과 마지막 내역 id (내역이 없으면 0 , afterId)
+    @Query("SELECT COALESCE(SUM(CASE WHEN p.type = '사용' THEN -p.point ELSE p.point END), 0) AS delta , " +
+            "COALESCE(MAX(p.id), :afterId) AS lastHistoryId " +
+            "FROM PointHistory p WHERE p.userId = :userId AND p.id > :afterId")
+    LedgerDelta sumAfter(@Param("userId") long userId , @Param("afterId") long afterId);
+
+    interface LedgerDelta {
+        long getDelta();
+        long getLastHistoryId();
+    }
 }
@@ -0,0 +1,37 @@
+package com.restapi.point.infrastructure.repository;
+
+import com.restapi.point.domain.model.PointSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface PointSummaryRepository extends JpaRepository<PointSummary, Long> {
+
+    //집계 누적 (H2 MERGE USING) : 행이 없으면 만들고 있으면 더한다 , 호출하는 쪽 트랜잭션에서 실행
+    // - 마지막 활동 시각은 늦은 쪽을 남긴다 (나중에 커밋된 트랜잭션의 시각이 더 이를 수 있다 : Group Commit , 일괄 처리 , 스트라이프 해제)
+    @Modifying
+    @Query(value = "MERGE INTO point_summary s " +
+            "USING (VALUES (CAST(:userId AS BIGINT), CAST(:charged AS BIGINT), CAST(:used AS BIGINT), CAST(:count AS BIGINT), CAST(:activityAt AS TIMESTAMP))) " +
+            "AS v(user_id, charged, used, cnt, activity_at) ON s.user_id = v.user_id " +
+            "WHEN MATCHED THEN UPDATE SET total_charged = s.total_charged + v.charged, total_used = s.total_used + v.used, " +
+            "transaction_count = s.transaction_count + v.cnt, last_activity_at = GREATEST(COALESCE(s.last_activity_at, v.activity_at), COALESCE(v.activity_at, s.last_activity_at)) " +
+            "WHEN NOT MATCHED THEN INSERT (user_id, total_charged, total_used, transaction_count, last_activity_at) " +
+            "VALUES (v.user_id, v.charged, v.used, v.cnt, v.activity_at)" , nativeQuery = true)
+    int accumulate(@Param("userId") long userId , @Param("charged") long charged , @Param("used") long used ,
+                   @Param("count") long count , @Param("activityAt") LocalDateTime activityAt);
+
+    //전체 내역으로 다시 계산 (원장 재구성 명령에서 사용 , 마지막 활동 시각은 내역에 없으므로 유지)
+    @Modifying
+    @Query(value = "MERGE INTO point_summary s " +
+            "USING (SELECT CAST(:userId AS BIGINT) AS user_id, " +
+            "COALESCE(SUM(CASE WHEN type = '충전' THEN point ELSE 0 END), 0) AS charged, " +
+            "COALESCE(SUM(CASE WHEN type = '사용' THEN point ELSE 0 END), 0) AS used, COUNT(*) AS cnt " +
+            "FROM point_history WHERE user_id = :userId) AS v ON s.user_id = v.user_id " +
+            "WHEN MATCHED THEN UPDATE SET total_charged = v.charged, total_used = v.used, transaction_count = v.cnt " +
+            "WHEN NOT MATCHED THEN INSERT (user_id, total_charged, total_used, transaction_count) " +
+            "VALUES (v.user_id, v.charged, v.used, v.cnt)" , nativeQuery = true)
+    int rebuild(@Param("userId") long userId);
+}
@@ -0,0 +1,41 @@
+package com.restapi.point.infrastructure.repository;
+
+import com.restapi.point.domain.model.PointSummaryStripe;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface PointSummaryStripeRepository extends JpaRepository<PointSummaryStripe, PointSummaryStripe.Key> {
+
+    //집계 스트라이프 하나에 누적 (H2 MERGE USING) , 호출하는 쪽 트랜잭션에서 실행 (마지막 활동 시각은 늦은 쪽을 남긴다)
+    @Modifying
+    @Query(value = "MERGE INTO point_summary_stripe s " +
+            "USING (VALUES (CAST(:userId AS BIGINT), CAST(:stripe AS INT), CAST(:charged AS BIGINT), CAST(:used AS BIGINT), CAST(:count AS BIGINT), CAST(:activityAt AS TIMESTAMP))) " +
+            "AS v(user_id, stripe, charged, used, cnt, activity_at) ON s.user_id = v.user_id AND s.stripe = v.stripe " +
+            "WHEN MATCHED THEN UPDATE SET total_charged = s.total_charged + v.charged, total_used = s.total_used + v.used, " +
+            "transaction_count = s.transaction_count + v.cnt, last_activity_at = GREATEST(COALESCE(s.last_activity_at, v.activity_at), COALESCE(v.activity_at, s.last_activity_at)) " +
+            "WHEN NOT MATCHED THEN INSERT (user_id, stripe, total_charged, total_used, transaction_count, last_activity_at) " +
+            "VALUES (v.user_id, v.stripe, v.charged, v.used, v.cnt, v.activity_at)" , nativeQuery = true)
+    int accumulate(@Param("userId") long userId , @Param("stripe") int stripe , @Param("charged") long charged , @Param("used") long used ,
+                   @Param("count") long count , @Param("activityAt") LocalDateTime activityAt);
+
+    //모든 집계 스트라이프 합계 (없으면 0 , 마지막 활동 시각 null)
+    @Query("SELECT COALESCE(SUM(s.totalCharged), 0) AS charged , COALESCE(SUM(s.totalUsed), 0) AS used , " +
+            "COALESCE(SUM(s.transactionCount), 0) AS count , MAX(s.lastActivityAt) AS lastActivityAt " +
+            "FROM PointSummaryStripe s WHERE s.userId = :userId")
+    StripedTotals sumByUserId(@Param("userId") long userId);
+
+    @Modifying
+    @Query("DELETE FROM PointSummaryStripe s WHERE s.userId = :userId")
+    int deleteByUserId(@Param("userId") long userId);
+
+    interface StripedTotals {
+        long getCharged();
+        long getUsed();
+        long getCount();
+        LocalDateTime getLastActivityAt();
+    }
+}
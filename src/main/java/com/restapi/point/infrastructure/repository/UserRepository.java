@@ -1,17 +1,40 @@
 package com.restapi.point.infrastructure.repository;
 
 import com.restapi.point.domain.model.User;
-import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT u FROM User u WHERE u.id = :userId")
-    Optional<User> findByIdUsingPessimisticLock(@Param("userId") Long userId);
+    //낙관적 락 : 읽은 시점의 버전과 같을 때만 반영 (0 이면 다른 요청이 먼저 변경함)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.point = :point, u.version = u.version + 1 WHERE u.userId = :userId AND u.version = :version")
+    int updatePointIfVersionMatches(@Param("userId") long userId , @Param("point") long point , @Param("version") long version);
+
+    //단일 구문 충전 : UPDATE 와 변경 후 잔액 조회를 한 번에 수행 (H2 FINAL TABLE) , 빈 값이면 없는 사용자
+    @Transactional
+    @Query(value = "SELECT point FROM FINAL TABLE (UPDATE users SET point = point + :amount, version = version + 1 WHERE user_id = :userId)" , nativeQuery = true)
+    Optional<Long> chargePoint(@Param("userId") long userId , @Param("amount") long amount);
+
+    //단일 구문 사용 : 잔액이 충분할 때만 차감 , 빈 값이면 없는 사용자 또는 잔액 부족
+    @Transactional
+    @Query(value = "SELECT point FROM FINAL TABLE (UPDATE users SET point = point - :amount, version = version + 1 WHERE user_id = :userId AND point >= :amount)" , nativeQuery = true)
+    Optional<Long> usePointIfEnough(@Param("userId") long userId , @Param("amount") long amount);
+
+    //전체 사용자 id 스트리밍 (존재 필터 적재용 , 호출하는 쪽에서 트랜잭션 안에서 닫아야 한다)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE , value = "1000") ,
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY , value = "true")
+    })
+    @Query("SELECT u.userId FROM User u")
+    Stream<Long> streamAllUserIds();
 }
@@ -0,0 +1,11 @@
+package com.restapi.point.infrastructure.repository;
+
+import com.restapi.point.domain.model.User;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+
+    //비관락 조회 (SELECT ... FOR UPDATE) : point.lock.timeout-millis 안에 행 락을 얻지 못하면 PessimisticLockingFailureException
+    Optional<User> findByIdForUpdate(long userId);
+}
@@ -0,0 +1,32 @@
+package com.restapi.point.infrastructure.repository;
+
+import com.restapi.point.domain.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.Map;
+import java.util.Optional;
+
+/*
+UserRepository 구현 조각 : 설정 값으로 락 대기 시간을 정해야 해서 어노테이션(@QueryHints) 대신 직접 조회한다.
+
+- jakarta.persistence.lock.timeout 힌트는 DB 가 지원하면 FOR UPDATE WAIT n / NOWAIT(0) 으로 나간다.
+- 지원하지 않는 DB 는 세션 락 대기 시간(H2 : LOCK_TIMEOUT , 기본 1초)이 적용된다.
+*/
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    EntityManager entityManager;
+
+    @Value("${point.lock.timeout-millis:3000}")
+    long lockTimeoutMillis;
+
+    @Override
+    public Optional<User> findByIdForUpdate(long userId) {
+        return Optional.ofNullable(entityManager.find(User.class , userId , LockModeType.PESSIMISTIC_WRITE ,
+                Map.of(SpecHints.HINT_SPEC_LOCK_TIMEOUT , lockTimeoutMillis)));
+    }
+}
@@ -1,25 +1,41 @@
 package com.restapi.point.presentation.controller;
 
 import com.restapi.point.application.enums.Messages;
+import com.restapi.point.application.usecase.PointBatchUseCase;
 import com.restapi.point.application.usecase.PointChargeUseCase;
 import com.restapi.point.application.usecase.PointHistoriesSearchUseCase;
 import com.restapi.point.application.usecase.PointSearchUseCase;
 import com.restapi.point.application.usecase.PointUseUseCase;
 import com.restapi.point.domain.model.PointHistory;
+import com.restapi.point.domain.model.PointSummary;
+import com.restapi.point.domain.model.User;
 import com.restapi.point.domain.service.PointService;
+import com.restapi.point.infrastructure.idempotency.IdempotencyStore;
+import com.restapi.point.infrastructure.interceptor.UserInterceptor;
+import com.restapi.point.presentation.dto.BalancesRequestDTO;
+import com.restapi.point.presentation.dto.BatchRequestDTO;
+import com.restapi.point.presentation.dto.BatchResultDTO;
+import com.restapi.point.presentation.dto.PointBalanceDTO;
 import com.restapi.point.presentation.dto.RequestDTO;
 import com.restapi.point.presentation.dto.ResponseDTO;
 import org.apache.coyote.Response;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("/point")
 public class PointRestController {
 
+    //경로의 {id} 는 UserInterceptor 가 검증하면서 파싱한 값을 요청 속성(UserInterceptor.USER_ID)으로 받는다
+
     @Autowired
     PointChargeUseCase pointChargeUseCase;
     @Autowired
@@ -28,34 +44,124 @@ public class PointRestController {
     PointSearchUseCase pointSearchUseCase;
     @Autowired
     PointUseUseCase pointUseUseCase;
+    @Autowired
+    PointBatchUseCase pointBatchUseCase;
 
     //포인트 충전
-    @PatchMapping("/{id}/charge") // -> 특정 id에 대한 포인트 충전 (멱등을 보장하지 않음)
-    public ResponseEntity<ResponseDTO<Long>> charge(@PathVariable("id") long id ,
-                                                      @RequestBody RequestDTO requestDTO) {
-        long afterPoint = pointChargeUseCase.charge(id, requestDTO).getPoint();
+    @PatchMapping("/{id}/charge") // -> 특정 id에 대한 포인트 충전 (Idempotency-Key 헤더가 있을 때만 멱등 보장)
+    public ResponseEntity<ResponseDTO<Long>> charge(@RequestAttribute(UserInterceptor.USER_ID) long id ,
+                                                      @RequestBody RequestDTO requestDTO ,
+                                                      @RequestHeader(value = IdempotencyStore.HEADER , required = false) String idempotencyKey) {
+        User user = idempotencyKey == null
+                ? pointChargeUseCase.charge(id, requestDTO)
+                : pointChargeUseCase.charge(id , requestDTO , idempotencyKey);
+        long afterPoint = user.getPoint();
         return ResponseEntity.ok(new ResponseDTO<>(200 , Messages.CHARGE_SUCCESS.toString() , afterPoint));
     }
 
     //포인트 사용
     @PatchMapping("/{id}/use")
-    public ResponseEntity<ResponseDTO<Long>> use(@PathVariable("id") long id ,
-                                                 @RequestBody RequestDTO requestDTO) {
-        long afterPoint = pointUseUseCase.use(id , requestDTO).getPoint();
+    public ResponseEntity<ResponseDTO<Long>> use(@RequestAttribute(UserInterceptor.USER_ID) long id ,
+                                                 @RequestBody RequestDTO requestDTO ,
+                                                 @RequestHeader(value = IdempotencyStore.HEADER , required = false) String idempotencyKey) {
+        User user = idempotencyKey == null
+                ? pointUseUseCase.use(id , requestDTO)
+                : pointUseUseCase.use(id , requestDTO , idempotencyKey);
+        long afterPoint = user.getPoint();
         return ResponseEntity.ok(new ResponseDTO<>(200 , Messages.USE_SUCCESS.toString() , afterPoint));
     }
 
+    //포인트 충전 (비동기) : 사용자 메일박스에서 처리되는 동안 요청 스레드를 반환한다
+    @PatchMapping("/{id}/charge/async")
+    public DeferredResult<ResponseEntity<ResponseDTO<Long>>> chargeAsync(@RequestAttribute(UserInterceptor.USER_ID) long id ,
+                                                                         @RequestBody RequestDTO requestDTO) {
+        return toDeferredResult(pointChargeUseCase.chargeAsync(id , requestDTO) , Messages.CHARGE_SUCCESS);
+    }
+
+    //포인트 사용 (비동기)
+    @PatchMapping("/{id}/use/async")
+    public DeferredResult<ResponseEntity<ResponseDTO<Long>>> useAsync(@RequestAttribute(UserInterceptor.USER_ID) long id ,
+                                                                      @RequestBody RequestDTO requestDTO) {
+        return toDeferredResult(pointUseUseCase.useAsync(id , requestDTO) , Messages.USE_SUCCESS);
+    }
+
+    //충전/사용 일괄 처리 : 명령별 결과를 요청 순서대로 반환 , atomic 배치가 취소되면 400
+    @PostMapping("/batch")
+    public ResponseEntity<ResponseDTO<List<BatchResultDTO>>> batch(@RequestBody BatchRequestDTO batchRequestDTO) {
+        List<BatchResultDTO> results = pointBatchUseCase.execute(batchRequestDTO);
+        boolean rolledBack = batchRequestDTO.isAtomic() && results.stream().anyMatch(result -> !result.isSuccess());
+        if(rolledBack) {
+            return ResponseEntity.badRequest().body(new ResponseDTO<>(400 , Messages.BATCH_ROLLED_BACK.toString() , results));
+        }
+        return ResponseEntity.ok(new ResponseDTO<>(200 , Messages.BATCH_SUCCESS.toString() , results));
+    }
+
     //포인트 조회
     @GetMapping("/{id}")
-    public ResponseEntity<ResponseDTO<Long>> getPointById(@PathVariable("id") long id) {
+    public ResponseEntity<ResponseDTO<Long>> getPointById(@RequestAttribute(UserInterceptor.USER_ID) long id) {
         long userPoint = pointSearchUseCase.getPointById(id);
         return ResponseEntity.ok(new ResponseDTO<>(200 , Messages.SEARCH_SUCCESS.toString() , userPoint));
     }
 
+    //여러 사용자 포인트 조회 : GET /point?ids=1,2,3 (없는 사용자는 결과에서 제외)
+    @GetMapping
+    public ResponseEntity<ResponseDTO<List<PointBalanceDTO>>> getPointsByIds(@RequestParam(value = "ids" , required = false) List<Long> ids) {
+        List<PointBalanceDTO> balances = pointSearchUseCase.getPointsByIds(ids);
+        return ResponseEntity.ok(new ResponseDTO<>(200 , Messages.SEARCH_SUCCESS.toString() , balances));
+    }
+
+    //여러 사용자 포인트 조회 (id 가 많아 URL 길이 제한을 넘는 경우)
+    @PostMapping("/balances")
+    public ResponseEntity<ResponseDTO<List<PointBalanceDTO>>> getPointsByIds(@RequestBody BalancesRequestDTO balancesRequestDTO) {
+        List<PointBalanceDTO> balances = pointSearchUseCase.getPointsByIds(balancesRequestDTO.getIds());
+        return ResponseEntity.ok(new ResponseDTO<>(200 , Messages.SEARCH_SUCCESS.toString() , balances));
+    }
+
     //포인트 내역 조회
+    // - afterId , limit 가 없으면 전체 내역 (기존 동작)
+    // - afterId / limit 중 하나라도 있으면 키셋 페이지 : afterId 다음 내역부터 limit 건 , 가득 찼으면 next 커서 제공
     @GetMapping("/{id}/histories")
-    public ResponseEntity<ResponseDTO<List<PointHistory>>> getPointHistoriesById(@PathVariable("id") long id) {
-        List<PointHistory> pointHistories = pointHistoriesSearchUseCase.getPointHistoriesById(id);
-        return ResponseEntity.ok(new ResponseDTO<>(200 , Messages.POINT_HISTORY_SEARCH_SUCCESS.toString() , pointHistories));
+    public ResponseEntity<ResponseDTO<List<PointHistory>>> getPointHistoriesById(@RequestAttribute(UserInterceptor.USER_ID) long id ,
+                                                                               @RequestParam(value = "afterId" , required = false) Long afterId ,
+                                                                               @RequestParam(value = "limit" , required = false) Integer limit) {
+        if(afterId == null && limit == null) {
+            List<PointHistory> pointHistories = pointHistoriesSearchUseCase.getPointHistoriesById(id);
+            return ResponseEntity.ok(new ResponseDTO<>(200 , Messages.POINT_HISTORY_SEARCH_SUCCESS.toString() , pointHistories));
+        }
+
+        int pageLimit = limit == null ? PointHistoriesSearchUseCase.DEFAULT_PAGE_LIMIT : limit;
+        List<PointHistory> pointHistories = pointHistoriesSearchUseCase.getPointHistoriesAfter(id , afterId == null ? 0 : afterId , pageLimit);
+        Long next = pointHistories.size() < Math.min(pageLimit , PointHistoriesSearchUseCase.MAX_PAGE_LIMIT)
+                ? null
+                : pointHistories.get(pointHistories.size() - 1).getId();
+        return ResponseEntity.ok(new ResponseDTO<>(200 , Messages.POINT_HISTORY_SEARCH_SUCCESS.toString() , pointHistories , next));
+    }
+
+    //포인트 내역 요약 (총 충전 , 총 사용 , 건수 , 마지막 활동 시각)
+    @GetMapping("/{id}/summary")
+    public ResponseEntity<ResponseDTO<PointSummary>> getPointSummaryById(@RequestAttribute(UserInterceptor.USER_ID) long id) {
+        PointSummary pointSummary = pointHistoriesSearchUseCase.getPointSummary(id);
+        return ResponseEntity.ok(new ResponseDTO<>(200 , Messages.SUMMARY_SEARCH_SUCCESS.toString() , pointSummary));
+    }
+
+    //포인트 내역 스트리밍 (감사용 전체 추출) : NDJSON 으로 한 건씩 바로 응답에 쓴다
+    @GetMapping("/{id}/histories/stream")
+    public ResponseEntity<StreamingResponseBody> streamPointHistoriesById(@RequestAttribute(UserInterceptor.USER_ID) long id) {
+        pointHistoriesSearchUseCase.validateUser(id);
+        StreamingResponseBody body = outputStream -> pointHistoriesSearchUseCase.exportPointHistories(id , outputStream);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    //처리 결과를 DeferredResult 로 전달 (예외는 GlobalExceptionHandler 에서 동일하게 처리된다)
+    private DeferredResult<ResponseEntity<ResponseDTO<Long>>> toDeferredResult(CompletableFuture<User> future , Messages successMessage) {
+        DeferredResult<ResponseEntity<ResponseDTO<Long>>> deferredResult = new DeferredResult<>();
+        future.whenComplete((user , exception) -> {
+            if(exception != null) {
+                deferredResult.setErrorResult(exception instanceof CompletionException ? exception.getCause() : exception);
+                return;
+            }
+            deferredResult.setResult(ResponseEntity.ok(new ResponseDTO<>(200 , successMessage.toString() , user.getPoint())));
+        });
+        return deferredResult;
     }
 }
@@ -0,0 +1,19 @@
+package com.restapi.point.presentation.dto;
+
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class BalancesRequestDTO {
+    private List<Long> ids = new ArrayList<>();
+
+    public BalancesRequestDTO() { //Jackson은 객체를 직렬화할 때 기본적으로 기본 생성자를 사용
+    }
+
+    public BalancesRequestDTO(List<Long> ids) {
+        this.ids = ids;
+    }
+}
@@ -0,0 +1,23 @@
+package com.restapi.point.presentation.dto;
+
+
+import lombok.Data;
+
+@Data
+public class BatchCommandDTO {
+    public static final String CHARGE = "charge";
+    public static final String USE = "use";
+
+    private long userId;
+    private String op; //charge | use
+    private long point;
+
+    public BatchCommandDTO() { //Jackson은 객체를 직렬화할 때 기본적으로 기본 생성자를 사용
+    }
+
+    public BatchCommandDTO(long userId , String op , long point) {
+        this.userId = userId;
+        this.op = op;
+        this.point = point;
+    }
+}
@@ -0,0 +1,21 @@
+package com.restapi.point.presentation.dto;
+
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class BatchRequestDTO {
+    private boolean atomic; //true : 하나라도 실패하면 전체 취소 , false : 성공한 명령만 반영
+    private List<BatchCommandDTO> commands = new ArrayList<>();
+
+    public BatchRequestDTO() { //Jackson은 객체를 직렬화할 때 기본적으로 기본 생성자를 사용
+    }
+
+    public BatchRequestDTO(boolean atomic , List<BatchCommandDTO> commands) {
+        this.atomic = atomic;
+        this.commands = commands;
+    }
+}
@@ -0,0 +1,26 @@
+package com.restapi.point.presentation.dto;
+
+
+import lombok.Data;
+
+@Data
+public class BatchResultDTO {
+    private int index; //요청 commands 내 순번
+    private long userId;
+    private String op;
+    private boolean success;
+    private Long point; //처리 후 잔액 (실패 시 null)
+    private String message;
+
+    public BatchResultDTO() {
+    }
+
+    public BatchResultDTO(int index , long userId , String op , boolean success , Long point , String message) {
+        this.index = index;
+        this.userId = userId;
+        this.op = op;
+        this.success = success;
+        this.point = point;
+        this.message = message;
+    }
+}
@@ -0,0 +1,18 @@
+package com.restapi.point.presentation.dto;
+
+
+import lombok.Data;
+
+@Data
+public class PointBalanceDTO {
+    private long userId;
+    private long point;
+
+    public PointBalanceDTO() {
+    }
+
+    public PointBalanceDTO(long userId , long point) {
+        this.userId = userId;
+        this.point = point;
+    }
+}
@@ -1,4 +1,5 @@
 package com.restapi.point.presentation.dto;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 
 @Data
@@ -7,6 +8,16 @@ public class ResponseDTO<T> {
     private String message ;
     private T data;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long next; //다음 페이지 커서 (다음 요청의 afterId) , 더 이상 없으면 생략
+
+    public ResponseDTO(int code , String message, T data , Long next) { //커서 페이지 데이터
+        this.code = code;
+        this.message = message;
+        this.data = data;
+        this.next = next;
+    }
+
     public ResponseDTO(int code , String message, T data) { //데이터 존재할 경우
         this.code = code;
         this.message = message;
@@ -0,0 +1,6 @@
+-- 명시적 인덱스 DDL
+-- ddl-auto=update 는 기존 테이블에 인덱스를 추가하지 않는 경우가 있고 운영(validate / none)에서는 아무것도 만들지 않으므로 , 조회 성능에 필요한 인덱스는 여기서 직접 만든다.
+-- 기동할 때마다 실행되므로 IF NOT EXISTS 로 여러 번 실행해도 같은 결과가 되게 작성한다.
+
+-- 사용자별 내역 조회 / 키셋 페이지 / 스트리밍 모두 (user_id , id) 순서로 읽는다
+CREATE INDEX IF NOT EXISTS idx_point_history_user_id_id ON point_history (user_id , id);
@@ -0,0 +1,146 @@
+package com.restapi.point.integration.cache;
+
+import com.restapi.point.application.usecase.PointSearchUseCase;
+import com.restapi.point.domain.model.User;
+import com.restapi.point.domain.service.PointService;
+import com.restapi.point.infrastructure.cache.PointBalanceCache;
+import com.restapi.point.infrastructure.repository.PointRepository;
+import com.restapi.point.infrastructure.repository.UserRepository;
+import com.restapi.point.presentation.dto.PointBalanceDTO;
+import com.restapi.point.presentation.dto.RequestDTO;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/*
+잔액 캐시 연동 테스트
+
+[1] 두 번째 조회부터는 DB 를 거치지 않는다.
+[2] 충전/사용 후에는 다시 읽지 않고도 새 잔액이 조회된다. (write-through)
+[3] 검증에 실패한 사용은 캐시에 반영되지 않는다.
+[4] 잔액을 쓴 뒤 트랜잭션이 롤백되면 잔액 / 내역 / 캐시 모두 그대로다.
+[5] 여러 사용자 조회는 캐시 미스만 DB 에서 읽고 , 없는 사용자는 제외한다.
+*/
+@SpringBootTest
+public class PointBalanceCacheTest {
+
+    @Autowired
+    PointSearchUseCase pointSearchUseCase;
+
+    @Autowired
+    PointService pointService;
+
+    @Autowired
+    PointBalanceCache pointBalanceCache;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    PointRepository pointRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        userRepository.save(new User(133L , 10000));
+        userRepository.save(new User(134L , 20000));
+    }
+
+    @Test
+    @DisplayName("두 번째 조회는 캐시에서 응답한다")
+    public void 두번째_조회는_캐시_사용() {
+
+        //given
+        pointSearchUseCase.getPointById(133L);
+        long hitCount = pointBalanceCache.getStats().hitCount();
+
+        //when
+        long point = pointSearchUseCase.getPointById(133L);
+
+        //then
+        Assertions.assertThat(point).isEqualTo(10000);
+        Assertions.assertThat(pointBalanceCache.getStats().hitCount()).isEqualTo(hitCount + 1);
+    }
+
+    @Test
+    @DisplayName("충전/사용 후 새 잔액이 캐시에 바로 반영된다")
+    public void 충전_사용_후_캐시_갱신() {
+
+        //given
+        pointSearchUseCase.getPointById(133L);
+        long loadCount = pointBalanceCache.getStats().loadCount();
+
+        //when
+        pointService.chargeByPessimisticLock(133L , new RequestDTO(5000));
+        pointService.useByConditionalUpdate(133L , new RequestDTO(3000));
+        pointService.chargeByOptimisticLock(133L , new RequestDTO(1000));
+
+        //then
+        Assertions.assertThat(pointSearchUseCase.getPointById(133L)).isEqualTo(13000);
+        Assertions.assertThat(pointBalanceCache.getStats().loadCount()).isEqualTo(loadCount);
+    }
+
+    @Test
+    @DisplayName("실패한 사용은 캐시에 반영되지 않는다")
+    public void 실패한_사용은_캐시_미반영() {
+
+        //given
+        pointSearchUseCase.getPointById(133L);
+
+        //when
+        Assertions.assertThatThrownBy(() -> pointService.useByPessimisticLock(133L , new RequestDTO(20000)));
+
+        //then
+        Assertions.assertThat(pointSearchUseCase.getPointById(133L)).isEqualTo(10000);
+    }
+
+    @Test
+    @DisplayName("잔액을 쓴 뒤 롤백되면 잔액 , 내역 , 캐시 모두 그대로다")
+    public void 쓰기_후_롤백되면_캐시_미반영() {
+
+        //given
+        pointSearchUseCase.getPointById(133L);
+        int historyCount = pointRepository.findByUserId(133L).size();
+
+        //when : 같은 트랜잭션에서 잔액 UPDATE + 내역 INSERT 까지 DB 에 보낸 뒤 실패시킨다
+        Assertions.assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            pointService.chargeByPessimisticLock(133L , new RequestDTO(5000));
+            userRepository.flush();
+            User used = pointService.useByConditionalUpdate(133L , new RequestDTO(3000));
+            pointRepository.flush();
+            Assertions.assertThat(used.getPoint()).isEqualTo(12000); //롤백 전에는 DB 에 반영되어 있다
+            throw new IllegalStateException("쓰기 이후 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        //then
+        Assertions.assertThat(userRepository.findById(133L).get().getPoint()).isEqualTo(10000);
+        Assertions.assertThat(pointRepository.findByUserId(133L)).hasSize(historyCount);
+        Assertions.assertThat(pointSearchUseCase.getPointById(133L)).isEqualTo(10000);
+    }
+
+    @Test
+    @DisplayName("여러 사용자 조회는 캐시 미스만 DB 에서 읽는다")
+    public void 여러_사용자_조회() {
+
+        //given
+        pointBalanceCache.evict(134L);
+        pointSearchUseCase.getPointById(133L);
+        long hitCount = pointBalanceCache.getStats().hitCount();
+
+        //when
+        List<PointBalanceDTO> balances = pointSearchUseCase.getPointsByIds(List.of(134L , 133L , -1L , 133L));
+
+        //then
+        Assertions.assertThat(balances).containsExactly(new PointBalanceDTO(134L , 20000) , new PointBalanceDTO(133L , 10000));
+        Assertions.assertThat(pointBalanceCache.getStats().hitCount()).isEqualTo(hitCount + 1);
+        Assertions.assertThat(pointSearchUseCase.getPointsByIds(List.of(134L))).containsExactly(new PointBalanceDTO(134L , 20000));
+    }
+}
@@ -0,0 +1,73 @@
+package com.restapi.point.integration.concurrency;
+
+import com.restapi.point.domain.model.User;
+import com.restapi.point.domain.service.PointChargeGroupCommitter;
+import com.restapi.point.domain.service.PointService;
+import com.restapi.point.infrastructure.repository.UserRepository;
+import com.restapi.point.presentation.dto.RequestDTO;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.LongStream;
+
+/*
+같은 사용자에게 동시에 들어온 충전을 묶어서 반영(Group Commit)하는 경우 테스트
+
+- 최종 잔액은 모든 충전의 합과 같아야 한다.
+- 각 요청이 돌려받는 잔액은 서로 달라야 하며, 1회 충전 단위로 빠짐없이 이어져야 한다.
+*/
+@SpringBootTest(properties = {
+        "point.charge.group-commit.max-wait-millis=20" ,
+        "point.charge.group-commit.max-batch-size=10"
+})
+public class GroupCommitChargeTest {
+
+    @Autowired
+    PointChargeGroupCommitter pointChargeGroupCommitter;
+
+    @Autowired
+    PointService pointService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @BeforeEach
+    public void setUp() {
+        userRepository.save(new User(131L , 0));
+    }
+
+    @Test
+    @DisplayName("단일 사용자 충전 여러번 요청 - Group Commit")
+    public void 단일_사용자가_여러_충전을_요청할_경우() throws Exception {
+
+        //given
+        int numberOfRequests = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(20);
+        List<Future<User>> futures = new ArrayList<>();
+
+        //when
+        for(int i = 0 ; i < numberOfRequests ; i++) {
+            futures.add(executorService.submit(() -> pointChargeGroupCommitter.charge(131L , new RequestDTO(1000)).join()));
+        }
+        List<Long> returnedPoints = new ArrayList<>();
+        for(Future<User> future : futures) {
+            returnedPoints.add(future.get().getPoint());
+        }
+        executorService.shutdown();
+
+        //then
+        Assertions.assertThat(pointService.getPointById(131L)).isEqualTo(100000);
+        Assertions.assertThat(returnedPoints)
+                .containsExactlyInAnyOrderElementsOf(LongStream.rangeClosed(1 , numberOfRequests).map(i -> i * 1000).boxed().toList());
+        Assertions.assertThat(pointChargeGroupCommitter.getStats().largestBatchSize()).isLessThanOrEqualTo(10);
+    }
+}
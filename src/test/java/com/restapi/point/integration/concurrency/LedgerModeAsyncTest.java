@@ -0,0 +1,73 @@
+package com.restapi.point.integration.concurrency;
+
+import com.restapi.point.application.usecase.PointChargeUseCase;
+import com.restapi.point.application.usecase.PointUseUseCase;
+import com.restapi.point.domain.model.User;
+import com.restapi.point.domain.service.PointLedgerService;
+import com.restapi.point.infrastructure.cache.PointBalanceCache;
+import com.restapi.point.infrastructure.repository.BalanceSnapshotRepository;
+import com.restapi.point.infrastructure.repository.PointRepository;
+import com.restapi.point.infrastructure.repository.UserRepository;
+import com.restapi.point.presentation.dto.RequestDTO;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+원장 모드 비동기 충전/사용 테스트
+
+1) /charge/async , /use/async 도 원장(내역)에 반영되고 users.point 는 바뀌지 않는다 (캐시는 원장 잔액)
+*/
+@SpringBootTest(properties = {"point.lock.strategy=LEDGER" , "point.batch.enabled=false"})
+public class LedgerModeAsyncTest {
+
+    @Autowired
+    PointChargeUseCase pointChargeUseCase;
+
+    @Autowired
+    PointUseUseCase pointUseUseCase;
+
+    @Autowired
+    PointLedgerService pointLedgerService;
+
+    @Autowired
+    PointBalanceCache pointBalanceCache;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    PointRepository pointRepository;
+
+    @Autowired
+    BalanceSnapshotRepository balanceSnapshotRepository;
+
+    @BeforeEach
+    public void setUp() {
+        userRepository.save(new User(141L , 10000));
+        pointRepository.deleteAll(pointRepository.findByUserId(141L));
+        balanceSnapshotRepository.deleteById(141L);
+    }
+
+    @Test
+    @DisplayName("원장 모드 비동기 충전/사용은 원장에 반영된다")
+    public void 원장_모드_비동기_충전_사용() throws Exception {
+
+        //when
+        User charged = pointChargeUseCase.chargeAsync(141L , new RequestDTO(5000)).get(10 , TimeUnit.SECONDS);
+        User used = pointUseUseCase.useAsync(141L , new RequestDTO(2000)).get(10 , TimeUnit.SECONDS);
+
+        //then
+        Assertions.assertThat(charged.getPoint()).isEqualTo(15000);
+        Assertions.assertThat(used.getPoint()).isEqualTo(13000);
+        Assertions.assertThat(pointLedgerService.getBalance(141L)).isEqualTo(13000);
+        Assertions.assertThat(pointRepository.findByUserId(141L)).hasSize(2);
+        Assertions.assertThat(userRepository.findById(141L).get().getPoint()).isEqualTo(10000);
+        Assertions.assertThat(pointBalanceCache.get(141L , pointLedgerService::getBalance)).isEqualTo(13000);
+    }
+}
@@ -0,0 +1,140 @@
+package com.restapi.point.integration.concurrency;
+
+import com.restapi.point.application.enums.Messages;
+import com.restapi.point.application.exception.BusinessException;
+import com.restapi.point.domain.model.User;
+import com.restapi.point.domain.service.PointLedgerService;
+import com.restapi.point.infrastructure.repository.BalanceSnapshotRepository;
+import com.restapi.point.infrastructure.repository.PointRepository;
+import com.restapi.point.infrastructure.repository.UserRepository;
+import com.restapi.point.presentation.dto.RequestDTO;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+/*
+원장 모드 충전/사용 테스트
+
+1) 충전 , 사용을 동시에 여러번 해도 잔액이 맞고 users.point 는 바뀌지 않는다
+2) 스냅샷 갱신 전후 잔액이 같다
+3) 잔액이 부족한 경우
+4) 기초 잔액 + 내역으로 잔액을 다시 계산한다 (원장 모드 이전 잔액은 내역이 없어도 유지)
+5) 원장 모드로 쓴 적 없는 사용자를 재구성해도 잔액이 그대로다
+*/
+@SpringBootTest
+public class LedgerModeTest {
+
+    @Autowired
+    PointLedgerService pointLedgerService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    PointRepository pointRepository;
+
+    @Autowired
+    BalanceSnapshotRepository balanceSnapshotRepository;
+
+    @BeforeEach
+    public void setUp() {
+        userRepository.save(new User(137L , 100000));
+        pointRepository.deleteAll(pointRepository.findByUserId(137L));
+        balanceSnapshotRepository.deleteById(137L);
+    }
+
+    @Test
+    @DisplayName("원장 모드 동시 충전/사용")
+    public void 원장_모드_동시_충전_사용() throws InterruptedException {
+
+        //given
+        int numberOfRequests = 50;
+        ExecutorService executorService = Executors.newFixedThreadPool(10);
+
+        //when
+        for(int i = 0 ; i < numberOfRequests ; i++) {
+            int finalI = i;
+            executorService.submit(() -> {
+                if(finalI % 2 == 0) {
+                    pointLedgerService.charge(137L , new RequestDTO(1000));
+                } else {
+                    pointLedgerService.use(137L , new RequestDTO(3000));
+                }
+            });
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(30 , TimeUnit.SECONDS);
+
+        //then
+        Assertions.assertThat(pointLedgerService.getBalance(137L)).isEqualTo(100000 + 25 * 1000 - 25 * 3000);
+        Assertions.assertThat(userRepository.findById(137L).get().getPoint()).isEqualTo(100000);
+        Assertions.assertThat(pointRepository.findByUserId(137L)).hasSize(numberOfRequests);
+    }
+
+    @Test
+    @DisplayName("스냅샷 갱신 전후 잔액이 같다")
+    public void 스냅샷_갱신() {
+
+        //given
+        pointLedgerService.charge(137L , new RequestDTO(5000));
+        pointLedgerService.use(137L , new RequestDTO(2000));
+        long before = pointLedgerService.getBalance(137L);
+
+        //when
+        pointLedgerService.snapshot(137L);
+
+        //then
+        Assertions.assertThat(pointLedgerService.getBalance(137L)).isEqualTo(before).isEqualTo(103000);
+        Assertions.assertThat(balanceSnapshotRepository.findById(137L).get().getPoint()).isEqualTo(103000);
+    }
+
+    @Test
+    @DisplayName("잔액이 부족하면 내역을 남기지 않는다")
+    public void 잔액_부족() {
+
+        //when , then
+        assertThatThrownBy(() -> pointLedgerService.use(137L , new RequestDTO(100001)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(Messages.LACK_POINT.toString());
+        Assertions.assertThat(pointRepository.findByUserId(137L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기초 잔액 + 내역으로 잔액을 다시 계산한다")
+    public void 잔액_재구성() {
+
+        //given : 기초 잔액 100000 은 내역 행이 없다
+        pointLedgerService.charge(137L , new RequestDTO(7000));
+        pointLedgerService.use(137L , new RequestDTO(2000));
+
+        //when
+        pointLedgerService.rebuild(137L);
+        pointLedgerService.rebuild(137L);
+
+        //then
+        Assertions.assertThat(pointLedgerService.getBalance(137L)).isEqualTo(105000);
+        Assertions.assertThat(userRepository.findById(137L).get().getPoint()).isEqualTo(105000);
+        Assertions.assertThat(balanceSnapshotRepository.findById(137L).get().getOpeningPoint()).isEqualTo(100000L);
+    }
+
+    @Test
+    @DisplayName("원장 모드로 쓴 적 없는 사용자를 재구성해도 잔액이 그대로다")
+    public void 원장_이전_사용자_재구성() {
+
+        //when
+        pointLedgerService.rebuild(137L);
+
+        //then
+        Assertions.assertThat(pointLedgerService.getBalance(137L)).isEqualTo(100000);
+        Assertions.assertThat(userRepository.findById(137L).get().getPoint()).isEqualTo(100000);
+    }
+}
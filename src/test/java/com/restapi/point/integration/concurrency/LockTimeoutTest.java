@@ -0,0 +1,201 @@
+package com.restapi.point.integration.concurrency;
+
+import com.restapi.point.application.enums.Messages;
+import com.restapi.point.application.exception.BusinessException;
+import com.restapi.point.application.usecase.PointBatchUseCase;
+import com.restapi.point.domain.model.User;
+import com.restapi.point.domain.service.PointLedgerService;
+import com.restapi.point.domain.service.PointService;
+import com.restapi.point.infrastructure.lock.UserLockManager;
+import com.restapi.point.infrastructure.repository.UserRepository;
+import com.restapi.point.presentation.dto.BatchCommandDTO;
+import com.restapi.point.presentation.dto.BatchRequestDTO;
+import com.restapi.point.presentation.dto.BatchResultDTO;
+import com.restapi.point.presentation.dto.RequestDTO;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+/*
+락 대기 시간 제한 테스트
+
+1) 다른 요청이 사용자 락을 잡고 있으면 제한 시간 후 LOCK_TIMEOUT(429)
+2) 다른 트랜잭션이 행 락을 잡고 있으면 제한 시간 후 LOCK_TIMEOUT(429)
+3) 일괄 처리도 행 락 대기 제한 시간 후 LOCK_TIMEOUT
+   atomic = true 이면 요청 전체가 429 로 실패 , false 이면 그 사용자의 명령만 실패하고 다른 사용자의 명령은 커밋된다
+4) 원장 스냅샷도 사용자 락 대기 제한 시간 후 LOCK_TIMEOUT(429)
+*/
+@SpringBootTest(properties = "point.lock.timeout-millis=200")
+public class LockTimeoutTest {
+
+    @Autowired
+    PointService pointService;
+
+    @Autowired
+    PointBatchUseCase pointBatchUseCase;
+
+    @Autowired
+    PointLedgerService pointLedgerService;
+
+    @Autowired
+    UserLockManager userLockManager;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        userRepository.save(new User(139L , 10000));
+    }
+
+    @Test
+    @DisplayName("사용자 락 대기 시간 초과")
+    public void 사용자_락_대기_시간_초과() throws InterruptedException {
+
+        //given : 다른 스레드가 사용자 락을 잡고 있다
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            userLockManager.lock(139L);
+            try {
+                locked.countDown();
+                release.await(5 , TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                userLockManager.unlock(139L);
+            }
+        });
+        holder.start();
+        locked.await();
+
+        //when , then
+        try {
+            assertThatThrownBy(() -> pointService.chargeByReentrantLock(139L , new RequestDTO(1000)))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessage(Messages.LOCK_TIMEOUT.toString());
+        } finally {
+            release.countDown();
+            holder.join();
+        }
+        Assertions.assertThat(userRepository.findById(139L).get().getPoint()).isEqualTo(10000);
+    }
+
+    @Test
+    @DisplayName("행 락 대기 시간 초과")
+    public void 행_락_대기_시간_초과() throws InterruptedException {
+
+        //given : 다른 트랜잭션이 SELECT ... FOR UPDATE 로 행 락을 잡고 있다
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> transactionTemplate.executeWithoutResult(status -> {
+            userRepository.findByIdForUpdate(139L);
+            locked.countDown();
+            try {
+                release.await(5 , TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        holder.start();
+        locked.await();
+
+        //when , then
+        try {
+            assertThatThrownBy(() -> pointService.chargeByPessimisticLock(139L , new RequestDTO(1000)))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessage(Messages.LOCK_TIMEOUT.toString());
+        } finally {
+            release.countDown();
+            holder.join();
+        }
+        Assertions.assertThat(userRepository.findById(139L).get().getPoint()).isEqualTo(10000);
+    }
+
+    @Test
+    @DisplayName("일괄 처리 행 락 대기 시간 초과")
+    public void 일괄_처리_행_락_대기_시간_초과() throws InterruptedException {
+
+        //given : 다른 트랜잭션이 139 의 행 락을 잡고 있다
+        userRepository.save(new User(144L , 10000));
+        List<BatchCommandDTO> commands = List.of(new BatchCommandDTO(139L , BatchCommandDTO.CHARGE , 1000) , new BatchCommandDTO(144L , BatchCommandDTO.CHARGE , 1000));
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> transactionTemplate.executeWithoutResult(status -> {
+            userRepository.findByIdForUpdate(139L);
+            locked.countDown();
+            try {
+                release.await(5 , TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        holder.start();
+        locked.await();
+
+        //when , then
+        try {
+            //atomic : 요청 전체 실패
+            assertThatThrownBy(() -> pointBatchUseCase.execute(new BatchRequestDTO(true , commands)))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessage(Messages.LOCK_TIMEOUT.toString());
+            Assertions.assertThat(userRepository.findById(144L).get().getPoint()).isEqualTo(10000);
+
+            //atomic 아님 : 139 의 명령만 실패 , 144 는 커밋
+            List<BatchResultDTO> results = pointBatchUseCase.execute(new BatchRequestDTO(false , commands));
+            Assertions.assertThat(results.get(0).isSuccess()).isFalse();
+            Assertions.assertThat(results.get(0).getMessage()).isEqualTo(Messages.LOCK_TIMEOUT.toString());
+            Assertions.assertThat(results.get(1).isSuccess()).isTrue();
+        } finally {
+            release.countDown();
+            holder.join();
+        }
+        Assertions.assertThat(userRepository.findById(139L).get().getPoint()).isEqualTo(10000);
+        Assertions.assertThat(userRepository.findById(144L).get().getPoint()).isEqualTo(11000);
+    }
+
+    @Test
+    @DisplayName("원장 스냅샷 사용자 락 대기 시간 초과")
+    public void 원장_스냅샷_락_대기_시간_초과() throws InterruptedException {
+
+        //given : 다른 스레드가 사용자 락을 잡고 있다
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            userLockManager.lock(139L);
+            try {
+                locked.countDown();
+                release.await(5 , TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                userLockManager.unlock(139L);
+            }
+        });
+        holder.start();
+        locked.await();
+
+        //when , then
+        try {
+            assertThatThrownBy(() -> pointLedgerService.snapshot(139L))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessage(Messages.LOCK_TIMEOUT.toString());
+        } finally {
+            release.countDown();
+            holder.join();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.restapi.point.integration.concurrency;
+
+import com.restapi.point.application.usecase.PointBatchUseCase;
+import com.restapi.point.application.usecase.PointChargeUseCase;
+import com.restapi.point.domain.model.User;
+import com.restapi.point.infrastructure.repository.PointRepository;
+import com.restapi.point.infrastructure.repository.UserRepository;
+import com.restapi.point.presentation.dto.BatchCommandDTO;
+import com.restapi.point.presentation.dto.BatchRequestDTO;
+import com.restapi.point.presentation.dto.BatchResultDTO;
+import com.restapi.point.presentation.dto.RequestDTO;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+메일박스(비동기 API)와 다른 쓰기 경로가 섞인 경우 테스트 (기본 설정 : PESSIMISTIC_LOCK)
+
+- 한 사용자에게 /charge/async , /charge , /point/batch 를 동시에 보낸다.
+- 처리 중 요청 수 한도로 거절된 요청이 있을 수 있으므로 성공한 충전 수만큼 잔액과 내역이 늘었는지 확인한다. (잃어버린 충전이 없어야 한다)
+*/
+@SpringBootTest
+public class MailboxMixedWritersTest {
+
+    @Autowired
+    PointChargeUseCase pointChargeUseCase;
+
+    @Autowired
+    PointBatchUseCase pointBatchUseCase;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    PointRepository pointRepository;
+
+    @BeforeEach
+    public void setUp() {
+        pointRepository.deleteAll(pointRepository.findByUserId(143L));
+        userRepository.save(new User(143L , 10000));
+    }
+
+    @Test
+    @DisplayName("비동기 충전 , 동기 충전 , 일괄 충전이 섞여도 충전을 잃지 않는다")
+    public void 쓰기_경로_혼합() throws InterruptedException {
+
+        //given
+        int numberOfRounds = 30;
+        AtomicInteger succeeded = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(12);
+
+        //when
+        for(int i = 0 ; i < numberOfRounds ; i++) {
+            executorService.submit(() -> {
+                pointChargeUseCase.chargeAsync(143L , new RequestDTO(1000)).join();
+                succeeded.incrementAndGet();
+            });
+            executorService.submit(() -> {
+                pointChargeUseCase.charge(143L , new RequestDTO(1000));
+                succeeded.incrementAndGet();
+            });
+            executorService.submit(() -> {
+                List<BatchResultDTO> results = pointBatchUseCase.execute(new BatchRequestDTO(false , List.of(new BatchCommandDTO(143L , BatchCommandDTO.CHARGE , 1000))));
+                if(results.get(0).isSuccess()) succeeded.incrementAndGet();
+            });
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(60 , TimeUnit.SECONDS);
+
+        //then
+        Assertions.assertThat(succeeded.get()).isPositive();
+        Assertions.assertThat(userRepository.findById(143L).get().getPoint()).isEqualTo(10000 + succeeded.get() * 1000L);
+        Assertions.assertThat(pointRepository.findByUserId(143L)).hasSize(succeeded.get());
+    }
+}
@@ -0,0 +1,79 @@
+package com.restapi.point.integration.concurrency;
+
+import com.restapi.point.domain.model.User;
+import com.restapi.point.domain.service.PointService;
+import com.restapi.point.infrastructure.repository.UserRepository;
+import com.restapi.point.presentation.dto.RequestDTO;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/*
+사용자별 메일박스를 활용해 단일 사용자 환경에서 다중 요청을 한 경우 테스트
+
+- 요청은 즉시 CompletableFuture 로 반환되고, 사용자별 워커가 순서대로 처리한다.
+
+1) 충전을 여러번 하는 경우
+2) 충전 , 사용을 번갈아 여러번 하는 경우
+*/
+@SpringBootTest
+public class SingleUserMultipleRequestMailboxTest {
+
+    @Autowired
+    PointService pointService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @BeforeEach
+    public void setUp() {
+        userRepository.save(new User(130L , 0));
+    }
+
+    @Test
+    @DisplayName("단일 사용자 충전 여러번 요청 - 메일박스")
+    public void 단일_사용자가_여러_충전을_요청할_경우() {
+
+        //given
+        int numberOfRequests = 100;
+        List<CompletableFuture<User>> futures = new ArrayList<>();
+
+        //when
+        for(int i = 0 ; i < numberOfRequests ; i++) {
+            futures.add(pointService.chargeByMailbox(130L , new RequestDTO(1000)));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        //then
+        Assertions.assertThat(pointService.getPointById(130L)).isEqualTo(100000);
+    }
+
+    @Test
+    @DisplayName("단일 사용자 충전/사용 번갈아 요청 - 메일박스 (도착 순서대로 처리)")
+    public void 단일_사용자가_충전_사용을_번갈아_요청할_경우() {
+
+        //given
+        int numberOfRequests = 100;
+        List<CompletableFuture<User>> futures = new ArrayList<>();
+
+        //when : 충전 -> 사용 순서가 지켜지므로 잔액 부족이 발생하지 않는다
+        for(int i = 0 ; i < numberOfRequests ; i++) {
+            if(i % 2 == 0) {
+                futures.add(pointService.chargeByMailbox(130L , new RequestDTO(1000)));
+            } else {
+                futures.add(pointService.useByMailbox(130L , new RequestDTO(1000)));
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        //then
+        Assertions.assertThat(pointService.getPointById(130L)).isZero();
+    }
+}
@@ -0,0 +1,219 @@
+package com.restapi.point.integration.concurrency;
+
+import com.restapi.point.application.enums.Messages;
+import com.restapi.point.application.exception.BusinessException;
+import com.restapi.point.application.usecase.PointHistoriesSearchUseCase;
+import com.restapi.point.domain.model.BalanceStripe;
+import com.restapi.point.domain.model.PointSummary;
+import com.restapi.point.domain.model.PointSummaryStripe;
+import com.restapi.point.domain.model.User;
+import com.restapi.point.domain.service.PointService;
+import com.restapi.point.domain.service.PointStripeService;
+import com.restapi.point.infrastructure.repository.BalanceStripeRepository;
+import com.restapi.point.infrastructure.repository.PointRepository;
+import com.restapi.point.infrastructure.repository.PointSummaryRepository;
+import com.restapi.point.infrastructure.repository.PointSummaryStripeRepository;
+import com.restapi.point.infrastructure.repository.UserRepository;
+import com.restapi.point.presentation.dto.RequestDTO;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+/*
+분할 잔액(스트라이프) 계정 테스트
+
+1) 처음 요청 시 users.point 가 스트라이프로 옮겨진다
+2) 동시 충전 후 잔액 = 스트라이프 합계 , 성공한 요청 수만큼 내역이 남는다
+3) 한 스트라이프만으로 부족한 사용은 다른 스트라이프에서 빌려 차감하고 고르게 다시 나눈다
+4) 전체 합계가 부족하면 거절한다
+5) 다른 트랜잭션이 스트라이프 행 락을 잡고 있으면 제한 시간 후 LOCK_TIMEOUT(429)
+6) 내역 요약은 같은 트랜잭션에서 집계 스트라이프에 누적되어 바로 조회된다
+7) 분할 대상에서 빠진 계정은 스트라이프 합계를 users.point 로 되돌리고 일반 경로로 처리된다
+*/
+@SpringBootTest(properties = {"point.stripe.hot-users=140" , "point.stripe.count=4" , "point.lock.timeout-millis=200"})
+public class StripedBalanceTest {
+
+    @Autowired
+    PointStripeService pointStripeService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    PointRepository pointRepository;
+
+    @Autowired
+    BalanceStripeRepository balanceStripeRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    PointSummaryRepository pointSummaryRepository;
+
+    @Autowired
+    PointSummaryStripeRepository pointSummaryStripeRepository;
+
+    @Autowired
+    PointHistoriesSearchUseCase pointHistoriesSearchUseCase;
+
+    @Autowired
+    PointService pointService;
+
+    @BeforeEach
+    public void setUp() {
+        for(long userId : List.of(140L , 142L)) {
+            balanceStripeRepository.deleteAll(balanceStripeRepository.findAll().stream().filter(stripe -> stripe.getUserId() == userId).toList());
+            pointSummaryStripeRepository.deleteAll(pointSummaryStripeRepository.findAll().stream().filter(stripe -> stripe.getUserId() == userId).toList());
+            pointSummaryRepository.findById(userId).ifPresent(pointSummaryRepository::delete);
+            pointRepository.deleteAll(pointRepository.findByUserId(userId));
+        }
+        userRepository.save(new User(140L , 10000));
+    }
+
+    @Test
+    @DisplayName("처음 요청 시 users.point 가 스트라이프로 옮겨진다")
+    public void 스트라이프_생성() {
+
+        //when
+        User user = pointStripeService.charge(140L , new RequestDTO(1000));
+
+        //then
+        Assertions.assertThat(user.getPoint()).isEqualTo(11000);
+        Assertions.assertThat(pointStripeService.getBalance(140L)).isEqualTo(11000);
+        Assertions.assertThat(userRepository.findById(140L).get().getPoint()).isZero();
+        Assertions.assertThat(balanceStripeRepository.sumByUserId(140L)).contains(11000L);
+    }
+
+    @Test
+    @DisplayName("동시 충전 후 잔액은 스트라이프 합계")
+    public void 동시_충전() throws InterruptedException {
+
+        //given
+        int numberOfRequests = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(20);
+
+        //when
+        for(int i = 0 ; i < numberOfRequests ; i++) {
+            executorService.submit(() -> pointStripeService.charge(140L , new RequestDTO(1000)));
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(30 , TimeUnit.SECONDS);
+
+        //then
+        Assertions.assertThat(pointStripeService.getBalance(140L)).isEqualTo(10000 + numberOfRequests * 1000);
+        Assertions.assertThat(pointRepository.findByUserId(140L)).hasSize(numberOfRequests);
+    }
+
+    @Test
+    @DisplayName("한 스트라이프만으로 부족하면 다른 스트라이프에서 빌린다")
+    public void 스트라이프_빌려오기() {
+
+        //given : 스트라이프 4개에 10000 이 나뉘어 있다 (어느 스트라이프도 혼자서는 9000 이 안 된다)
+        pointStripeService.use(140L , new RequestDTO(2000));
+        pointStripeService.charge(140L , new RequestDTO(2000));
+
+        //when
+        User user = pointStripeService.use(140L , new RequestDTO(9000));
+
+        //then
+        Assertions.assertThat(user.getPoint()).isEqualTo(1000);
+        List<BalanceStripe> stripes = balanceStripeRepository.findAll().stream().filter(stripe -> stripe.getUserId() == 140L).toList();
+        Assertions.assertThat(stripes).hasSize(4).allSatisfy(stripe -> Assertions.assertThat(stripe.getPoint()).isBetween(0L , 1000L));
+    }
+
+    @Test
+    @DisplayName("전체 합계가 부족하면 거절한다")
+    public void 잔액_부족() {
+
+        //when , then
+        assertThatThrownBy(() -> pointStripeService.use(140L , new RequestDTO(10001)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(Messages.LACK_POINT.toString());
+        Assertions.assertThat(pointStripeService.getBalance(140L)).isEqualTo(10000);
+        Assertions.assertThat(pointRepository.findByUserId(140L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("스트라이프 행 락 대기 시간 초과")
+    public void 스트라이프_락_대기_시간_초과() throws InterruptedException {
+
+        //given : 다른 트랜잭션이 모든 스트라이프 행 락을 잡고 있다
+        pointStripeService.charge(140L , new RequestDTO(1000));
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> transactionTemplate.executeWithoutResult(status -> {
+            balanceStripeRepository.findAllByUserIdForUpdate(140L);
+            locked.countDown();
+            try {
+                release.await(5 , TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        holder.start();
+        locked.await();
+
+        //when , then
+        try {
+            assertThatThrownBy(() -> pointStripeService.use(140L , new RequestDTO(9000)))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessage(Messages.LOCK_TIMEOUT.toString());
+        } finally {
+            release.countDown();
+            holder.join();
+        }
+        Assertions.assertThat(pointStripeService.getBalance(140L)).isEqualTo(11000);
+    }
+
+    @Test
+    @DisplayName("내역 요약은 같은 트랜잭션에서 누적되어 바로 조회된다")
+    public void 요약_즉시_반영() {
+
+        //when
+        pointStripeService.charge(140L , new RequestDTO(1000));
+        pointStripeService.use(140L , new RequestDTO(2000));
+        assertThatThrownBy(() -> pointStripeService.use(140L , new RequestDTO(100000))).isInstanceOf(BusinessException.class);
+
+        //then : 실패한 요청은 집계되지 않는다
+        PointSummary pointSummary = pointHistoriesSearchUseCase.getPointSummary(140L);
+        Assertions.assertThat(pointSummary.getTotalCharged()).isEqualTo(1000);
+        Assertions.assertThat(pointSummary.getTotalUsed()).isEqualTo(2000);
+        Assertions.assertThat(pointSummary.getTransactionCount()).isEqualTo(2);
+        Assertions.assertThat(pointSummary.getLastActivityAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("분할 대상에서 빠진 계정은 스트라이프를 users.point 로 되돌린다")
+    public void 분할_해제() {
+
+        //given : 142 는 분할 대상이 아닌데 이전 설정에서 만들어진 스트라이프가 남아 있다
+        userRepository.save(new User(142L , 0));
+        balanceStripeRepository.saveAll(List.of(new BalanceStripe(142L , 0 , 3000) , new BalanceStripe(142L , 1 , 2000)));
+        pointSummaryStripeRepository.save(new PointSummaryStripe(142L , 0 , 5000 , 0 , 2 , LocalDateTime.now()));
+
+        //when
+        int merged = pointStripeService.mergeColdStripes();
+
+        //then
+        Assertions.assertThat(merged).isEqualTo(1);
+        Assertions.assertThat(userRepository.findById(142L).get().getPoint()).isEqualTo(5000);
+        Assertions.assertThat(balanceStripeRepository.sumByUserId(142L)).isEmpty();
+        Assertions.assertThat(pointSummaryRepository.findById(142L).get().getTotalCharged()).isEqualTo(5000);
+        Assertions.assertThat(pointHistoriesSearchUseCase.getPointSummary(142L).getTransactionCount()).isEqualTo(2);
+        Assertions.assertThat(pointService.chargeByPessimisticLock(142L , new RequestDTO(1000)).getPoint()).isEqualTo(6000);
+    }
+}
@@ -0,0 +1,95 @@
+package com.restapi.point.integration.concurrency;
+
+import com.restapi.point.application.enums.Messages;
+import com.restapi.point.application.exception.BusinessException;
+import com.restapi.point.domain.model.User;
+import com.restapi.point.domain.service.PointService;
+import com.restapi.point.infrastructure.repository.UserRepository;
+import com.restapi.point.presentation.dto.RequestDTO;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+/*
+조건부 단일 UPDATE 를 활용한 충전/사용 테스트
+
+1) 충전 , 사용을 번갈아 여러번 하는 경우
+2) 잔액이 부족한 경우
+3) 없는 사용자인 경우
+*/
+@SpringBootTest
+public class UseChargeTestUsingConditionalUpdateTest {
+
+    @Autowired
+    PointService pointService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @BeforeEach
+    public void setUp() {
+        userRepository.save(new User(129L , 100000));
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 를 활용해 충전/사용 테스트")
+    public void 조건부_UPDATE_활용_충전_사용_테스트() throws InterruptedException {
+
+        //given
+        long userId = 129L ;
+        int numberOfRequests = 50;
+        int expected = 100000;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(numberOfRequests);
+
+        //when
+        for(int i = 0 ; i < numberOfRequests; i++) {
+            int finalI = i;
+            executorService.submit(() -> {
+                if(finalI % 2 == 0) {
+                    pointService.useByConditionalUpdate(userId , new RequestDTO(1000));
+                } else {
+                    pointService.chargeByConditionalUpdate(userId , new RequestDTO(1000));
+                }
+            });
+        }
+
+        executorService.shutdown();
+        if (!executorService.awaitTermination(10, TimeUnit.SECONDS)) {
+            executorService.shutdownNow();
+        }
+
+        //then
+        Assertions.assertThat(pointService.getPointById(userId)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE - 잔액 부족")
+    public void 조건부_UPDATE_잔액_부족() {
+
+        //when & then
+        assertThatThrownBy(() -> pointService.useByConditionalUpdate(129L , new RequestDTO(100001)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(Messages.LACK_POINT.toString());
+        Assertions.assertThat(pointService.getPointById(129L)).isEqualTo(100000);
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE - 없는 사용자")
+    public void 조건부_UPDATE_없는_사용자() {
+
+        //when & then
+        assertThatThrownBy(() -> pointService.chargeByConditionalUpdate(Long.MAX_VALUE , new RequestDTO(1000)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(Messages.NO_USER.toString());
+    }
+}
@@ -0,0 +1,83 @@
+package com.restapi.point.integration.concurrency;
+
+import com.restapi.point.domain.model.User;
+import com.restapi.point.domain.service.PointService;
+import com.restapi.point.infrastructure.repository.UserRepository;
+import com.restapi.point.presentation.dto.RequestDTO;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/*
+낙관락을 활용해 단일 사용자 환경에서 충전/사용을 동시에 요청한 경우 테스트
+
+- 버전이 다르면 반영하지 않고 재시도한다.
+- 최대 시도 횟수를 넘긴 요청은 실패하지만, 성공한 요청만큼은 정확히 반영되어야 한다.
+*/
+@SpringBootTest(properties = "point.optimistic.max-attempts=100")
+public class UseChargeTestUsingOptimisticLockTest {
+
+    @Autowired
+    PointService pointService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @BeforeEach
+    public void setUp() {
+        userRepository.save(new User(128L , 100000));
+    }
+
+    @Test
+    @DisplayName("낙관락을 활용해 충전/사용 테스트")
+    public void 낙관락_활용_충전_사용_테스트() throws InterruptedException {
+
+        //given
+        long userId = 128L ;
+        int numberOfRequests = 50;
+        ExecutorService executorService = Executors.newFixedThreadPool(numberOfRequests);
+        List<Future<User>> charges = new ArrayList<>();
+        List<Future<User>> uses = new ArrayList<>();
+
+        //when
+        for(int i = 0 ; i < numberOfRequests; i++) {
+            if(i % 2 == 0) {
+                uses.add(executorService.submit(() -> pointService.useByOptimisticLock(userId , new RequestDTO(1000))));
+            } else {
+                charges.add(executorService.submit(() -> pointService.chargeByOptimisticLock(userId , new RequestDTO(1000))));
+            }
+        }
+
+        executorService.shutdown();
+        if (!executorService.awaitTermination(30, TimeUnit.SECONDS)) {
+            executorService.shutdownNow();
+        }
+
+        //then
+        long expected = 100000 + (countSuccess(charges) - countSuccess(uses)) * 1000L;
+        Assertions.assertThat(pointService.getPointById(userId)).isEqualTo(expected);
+    }
+
+    private long countSuccess(List<Future<User>> futures) {
+        long success = 0;
+        for(Future<User> future : futures) {
+            try {
+                future.get();
+                success++;
+            } catch (Exception e) {
+                //재시도 초과 실패는 잔액에 반영되지 않아야 한다
+            }
+        }
+        return success;
+    }
+}
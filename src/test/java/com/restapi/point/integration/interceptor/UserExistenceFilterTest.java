@@ -0,0 +1,76 @@
+package com.restapi.point.integration.interceptor;
+
+import com.restapi.point.application.enums.Messages;
+import com.restapi.point.domain.model.User;
+import com.restapi.point.infrastructure.filter.UserExistenceFilter;
+import com.restapi.point.infrastructure.repository.UserRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/*
+사용자 존재 필터 연동 테스트 (point.user-filter.enabled=true)
+
+[1] 필터에 없는 사용자는 인터셉터에서 NO_USER 로 거절된다.
+[2] 기동 후 새로 저장된 사용자도 바로 통과한다.
+*/
+@SpringBootTest(properties = {"point.user-filter.enabled=true" , "point.user-filter.verify-sample-rate=1"})
+@AutoConfigureMockMvc
+public class UserExistenceFilterTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    UserExistenceFilter userExistenceFilter;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Test
+    @DisplayName("필터에 없는 사용자는 DB 조회 없이 거절된다")
+    public void 없는_사용자_거절() throws Exception {
+
+        //given
+        long rejected = userExistenceFilter.getStats().rejected();
+
+        //when , then (오탐이 있더라도 서비스에서 같은 NO_USER 로 거절된다)
+        for(long id = Long.MAX_VALUE - 20 ; id < Long.MAX_VALUE ; id++) {
+            mockMvc.perform(get("/point/{id}" , id)
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value(Messages.NO_USER.toString()));
+        }
+
+        Assertions.assertThat(userExistenceFilter.getStats().ready()).isTrue();
+        Assertions.assertThat(userExistenceFilter.getStats().rejected()).isGreaterThan(rejected);
+    }
+
+    @Test
+    @DisplayName("새로 저장된 사용자는 바로 통과한다")
+    public void 새_사용자_통과() throws Exception {
+
+        //given
+        userRepository.deleteById(136L);
+        userRepository.save(new User(136L , 7000));
+
+        //when , then
+        mockMvc.perform(get("/point/{id}" , 136L)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value(7000))
+                .andDo(print());
+
+        Assertions.assertThat(userExistenceFilter.getStats().verified()).isPositive();
+    }
+}
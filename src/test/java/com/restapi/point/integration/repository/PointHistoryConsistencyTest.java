@@ -0,0 +1,85 @@
+package com.restapi.point.integration.repository;
+
+import com.restapi.point.domain.model.User;
+import com.restapi.point.domain.service.PointService;
+import com.restapi.point.infrastructure.repository.PointRepository;
+import com.restapi.point.infrastructure.repository.UserRepository;
+import com.restapi.point.presentation.dto.RequestDTO;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/*
+잔액 변경 + 내역 추가 단일 트랜잭션 테스트
+
+[1] 동시성 제어 방식과 관계없이 성공한 요청 수만큼 내역이 남고 잔액과 일치한다.
+[2] 실패한 사용은 잔액도 내역도 남기지 않는다.
+*/
+@SpringBootTest
+public class PointHistoryConsistencyTest {
+
+    @Autowired
+    PointService pointService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    PointRepository pointRepository;
+
+    @BeforeEach
+    public void setUp() {
+        userRepository.save(new User(135L , 0));
+        pointRepository.deleteAll(pointRepository.findByUserId(135L));
+    }
+
+    @Test
+    @DisplayName("성공한 요청 수만큼 내역이 남고 잔액과 일치한다")
+    public void 내역과_잔액_일치() throws InterruptedException {
+
+        //given
+        int numberOfRequests = 60;
+        ExecutorService executorService = Executors.newFixedThreadPool(10);
+
+        //when
+        for(int i = 0 ; i < numberOfRequests ; i++) {
+            int strategy = i % 6;
+            executorService.submit(() -> switch (strategy) {
+                case 0 -> pointService.chargeBySynchronized(135L , new RequestDTO(1000));
+                case 1 -> pointService.chargeByReentrantLock(135L , new RequestDTO(1000));
+                case 2 -> pointService.chargeByPessimisticLock(135L , new RequestDTO(1000));
+                case 3 -> pointService.chargeByOptimisticLock(135L , new RequestDTO(1000));
+                case 4 -> pointService.chargeByConditionalUpdate(135L , new RequestDTO(1000));
+                default -> pointService.chargeByMailbox(135L , new RequestDTO(1000)).join();
+            });
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(30 , TimeUnit.SECONDS);
+
+        //then
+        long point = pointService.getPointById(135L);
+        long historySum = pointRepository.findByUserId(135L).stream().mapToLong(history -> history.getPoint()).sum();
+        Assertions.assertThat(historySum).isEqualTo(point);
+    }
+
+    @Test
+    @DisplayName("실패한 사용은 내역을 남기지 않는다")
+    public void 실패한_사용은_내역_없음() {
+
+        //when
+        Assertions.assertThatThrownBy(() -> pointService.useByPessimisticLock(135L , new RequestDTO(1000)));
+        Assertions.assertThatThrownBy(() -> pointService.useByConditionalUpdate(135L , new RequestDTO(1000)));
+        Assertions.assertThatThrownBy(() -> pointService.useByReentrantLock(135L , new RequestDTO(1000)));
+
+        //then
+        Assertions.assertThat(pointService.getPointById(135L)).isZero();
+        Assertions.assertThat(pointRepository.findByUserId(135L)).isEmpty();
+    }
+}
@@ -0,0 +1,75 @@
+package com.restapi.point.integration.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restapi.point.application.enums.Messages;
+import com.restapi.point.application.exception.BusinessException;
+import com.restapi.point.application.usecase.PointHistoriesSearchUseCase;
+import com.restapi.point.domain.model.PointHistory;
+import com.restapi.point.domain.model.User;
+import com.restapi.point.infrastructure.repository.PointRepository;
+import com.restapi.point.infrastructure.repository.UserRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+//포인트 내역 NDJSON 스트리밍 추출 연동 테스트
+@SpringBootTest
+public class PointHistoryExportTest {
+
+    @Autowired
+    PointHistoriesSearchUseCase pointHistoriesSearchUseCase;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    PointRepository pointRepository;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("포인트 내역을 한 줄에 한 건씩 id 순서대로 출력한다")
+    public void 포인트_내역_NDJSON_추출() throws Exception {
+
+        //given
+        long userId = 132L;
+        userRepository.save(new User(userId , 0));
+        pointRepository.deleteAll(pointRepository.findByUserId(userId));
+
+        List<PointHistory> pointHistories = new ArrayList<>();
+        for(int i = 1 ; i <= 1000 ; i++) {
+            pointHistories.add(new PointHistory(userId , i , i % 2 == 0 ? "사용" : "충전"));
+        }
+        pointRepository.saveAll(pointHistories);
+
+        //when
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        pointHistoriesSearchUseCase.exportPointHistories(userId , outputStream);
+
+        //then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        Assertions.assertThat(lines).hasSize(1000);
+        Assertions.assertThat(objectMapper.readValue(lines[0] , PointHistory.class).getPoint()).isEqualTo(1);
+        Assertions.assertThat(objectMapper.readValue(lines[999] , PointHistory.class).getPoint()).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("없는 사용자는 스트리밍 전에 거절한다")
+    public void 없는_사용자_거절() {
+
+        //when & then
+        assertThatThrownBy(() -> pointHistoriesSearchUseCase.validateUser(Long.MAX_VALUE))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(Messages.NO_USER.toString());
+    }
+}
@@ -0,0 +1,100 @@
+package com.restapi.point.integration.repository;
+
+import com.restapi.point.infrastructure.repository.PointRepository;
+import org.assertj.core.api.Assertions;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+/*
+포인트 내역 조회 쿼리가 (user_id , id) 인덱스를 사용하는지 H2 실행계획(EXPLAIN)으로 검증
+
+- 직접 쓴 SQL 이 아니라 리포지토리 메소드가 실제로 실행한 SQL 을 StatementInspector 로 받아 EXPLAIN 한다.
+- 인덱스는 db/schema-index.sql 로 만들어진다.
+
+[1] 사용자별 전체 내역 조회 (findByUserId)
+[2] 키셋 페이지 조회 (findByUserIdAndIdGreaterThanOrderByIdAsc)
+[3] 전체 내역 스트리밍 (streamByUserId)
+*/
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.restapi.point.integration.repository.PointHistoryIndexTest$CapturingStatementInspector")
+public class PointHistoryIndexTest {
+
+    private static final String USER_ID_INDEX = "IDX_POINT_HISTORY_USER_ID_ID";
+
+    @Autowired
+    PointRepository pointRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        CapturingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    @DisplayName("사용자별 내역 조회는 인덱스를 사용한다")
+    public void 사용자별_내역_조회_인덱스_사용() {
+        pointRepository.findByUserId(1L);
+
+        Assertions.assertThat(explainLastPointHistoryQuery()).containsIgnoringCase(USER_ID_INDEX);
+    }
+
+    @Test
+    @DisplayName("키셋 페이지 조회는 인덱스를 사용한다")
+    public void 키셋_페이지_조회_인덱스_사용() {
+        pointRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(1L , 100L , Limit.of(100));
+
+        Assertions.assertThat(explainLastPointHistoryQuery()).containsIgnoringCase(USER_ID_INDEX);
+    }
+
+    @Test
+    @DisplayName("전체 내역 스트리밍은 인덱스를 사용한다")
+    public void 전체_내역_스트리밍_인덱스_사용() {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<?> stream = pointRepository.streamByUserId(1L)) {
+                stream.count();
+            }
+        });
+
+        Assertions.assertThat(explainLastPointHistoryQuery()).containsIgnoringCase(USER_ID_INDEX);
+    }
+
+    //리포지토리가 실행한 마지막 point_history 조회 SQL 을 같은 파라미터 개수로 EXPLAIN (값은 실행계획에 영향이 없으므로 1 로 채운다)
+    private String explainLastPointHistoryQuery() {
+        List<String> queries = CapturingStatementInspector.STATEMENTS.stream()
+                .filter(sql -> sql.toLowerCase().startsWith("select") && sql.toLowerCase().contains("point_history"))
+                .toList();
+        Assertions.assertThat(queries).isNotEmpty();
+
+        String sql = queries.get(queries.size() - 1);
+        Object[] parameters = new Object[(int) sql.chars().filter(c -> c == '?').count()];
+        Arrays.fill(parameters , 1L);
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql , String.class , parameters);
+    }
+
+    //Hibernate 가 만든 SQL 을 그대로 모은다 (hibernate.session_factory.statement_inspector 로 등록)
+    public static class CapturingStatementInspector implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
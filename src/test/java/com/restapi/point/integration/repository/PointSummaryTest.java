@@ -0,0 +1,141 @@
+package com.restapi.point.integration.repository;
+
+import com.restapi.point.application.usecase.PointBatchUseCase;
+import com.restapi.point.application.usecase.PointHistoriesSearchUseCase;
+import com.restapi.point.domain.model.PointHistory;
+import com.restapi.point.domain.model.PointSummary;
+import com.restapi.point.domain.model.User;
+import com.restapi.point.domain.service.PointService;
+import com.restapi.point.domain.service.PointSummaryService;
+import com.restapi.point.infrastructure.repository.PointRepository;
+import com.restapi.point.infrastructure.repository.PointSummaryRepository;
+import com.restapi.point.infrastructure.repository.UserRepository;
+import com.restapi.point.presentation.dto.BatchCommandDTO;
+import com.restapi.point.presentation.dto.BatchRequestDTO;
+import com.restapi.point.presentation.dto.RequestDTO;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/*
+사용자별 내역 집계 연동 테스트
+
+[1] 충전/사용/일괄 처리 모두 내역과 같은 트랜잭션에서 집계가 누적된다.
+[2] 실패한 요청은 집계에 반영되지 않는다.
+[3] 집계 없이 쌓여 있던 내역은 백필로 반영된다.
+[4] 더 이른 시각의 집계가 나중에 반영되어도 마지막 활동 시각은 뒤로 가지 않는다.
+*/
+@SpringBootTest
+public class PointSummaryTest {
+
+    @Autowired
+    PointService pointService;
+
+    @Autowired
+    PointBatchUseCase pointBatchUseCase;
+
+    @Autowired
+    PointHistoriesSearchUseCase pointHistoriesSearchUseCase;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    PointRepository pointRepository;
+
+    @Autowired
+    PointSummaryRepository pointSummaryRepository;
+
+    @Autowired
+    PointSummaryService pointSummaryService;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        userRepository.save(new User(138L , 10000));
+        pointRepository.deleteAll(pointRepository.findByUserId(138L));
+        pointSummaryRepository.deleteById(138L);
+    }
+
+    @Test
+    @DisplayName("충전/사용/일괄 처리 모두 집계에 누적된다")
+    public void 집계_누적() {
+
+        //when
+        pointService.chargeByPessimisticLock(138L , new RequestDTO(5000));
+        pointService.useByConditionalUpdate(138L , new RequestDTO(3000));
+        pointService.chargeByReentrantLock(138L , new RequestDTO(1000));
+        pointBatchUseCase.execute(new BatchRequestDTO(false , List.of(
+                new BatchCommandDTO(138L , "charge" , 2000) ,
+                new BatchCommandDTO(138L , "use" , 4000))));
+
+        //then
+        PointSummary pointSummary = pointHistoriesSearchUseCase.getPointSummary(138L);
+        Assertions.assertThat(pointSummary.getTotalCharged()).isEqualTo(8000);
+        Assertions.assertThat(pointSummary.getTotalUsed()).isEqualTo(7000);
+        Assertions.assertThat(pointSummary.getTransactionCount()).isEqualTo(5);
+        Assertions.assertThat(pointSummary.getLastActivityAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 집계에 반영되지 않는다")
+    public void 실패한_요청_미반영() {
+
+        //when
+        Assertions.assertThatThrownBy(() -> pointService.useByPessimisticLock(138L , new RequestDTO(20000)));
+
+        //then
+        PointSummary pointSummary = pointHistoriesSearchUseCase.getPointSummary(138L);
+        Assertions.assertThat(pointSummary.getTransactionCount()).isZero();
+        Assertions.assertThat(pointSummary.getLastActivityAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("집계 없이 쌓여 있던 내역은 백필로 반영된다")
+    public void 기존_내역_백필() {
+
+        //given : 집계 기능 도입 전 내역 (집계 누적 없이 INSERT)
+        pointRepository.saveAll(List.of(
+                new PointHistory(138L , 5000 , "충전") ,
+                new PointHistory(138L , 1000 , "충전") ,
+                new PointHistory(138L , 2000 , "사용")));
+        Assertions.assertThat(pointHistoriesSearchUseCase.getPointSummary(138L).getTransactionCount()).isZero();
+
+        //when
+        int rebuilt = pointSummaryService.rebuildAll(2);
+
+        //then
+        PointSummary pointSummary = pointHistoriesSearchUseCase.getPointSummary(138L);
+        Assertions.assertThat(rebuilt).isPositive();
+        Assertions.assertThat(pointSummary.getTotalCharged()).isEqualTo(6000);
+        Assertions.assertThat(pointSummary.getTotalUsed()).isEqualTo(2000);
+        Assertions.assertThat(pointSummary.getTransactionCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("더 이른 시각의 집계가 나중에 반영되어도 마지막 활동 시각은 뒤로 가지 않는다")
+    public void 마지막_활동_시각_유지() {
+
+        //given
+        LocalDateTime later = LocalDateTime.of(2024 , 9 , 1 , 12 , 0);
+        LocalDateTime earlier = later.minusMinutes(1);
+
+        //when
+        transactionTemplate.executeWithoutResult(status -> pointSummaryRepository.accumulate(138L , 1000 , 0 , 1 , later));
+        transactionTemplate.executeWithoutResult(status -> pointSummaryRepository.accumulate(138L , 1000 , 0 , 1 , earlier));
+
+        //then
+        PointSummary pointSummary = pointSummaryRepository.findById(138L).get();
+        Assertions.assertThat(pointSummary.getLastActivityAt()).isEqualTo(later);
+        Assertions.assertThat(pointSummary.getTotalCharged()).isEqualTo(2000);
+    }
+}
@@ -0,0 +1,80 @@
+package com.restapi.point.unit.admission;
+
+import com.restapi.point.application.enums.Messages;
+import com.restapi.point.application.exception.BusinessException;
+import com.restapi.point.infrastructure.admission.UserAdmissionControl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/* 사용자별 처리 중 요청 수 제한 단위 테스트 */
+/* 성공 케이스
+   [1] 요청이 끝나면 처리 중 요청 수가 0 으로 돌아오고 사용자가 맵에서 지워진다.
+   [2] 한도를 따로 지정한 사용자는 그 한도까지 받고 , 처리 중 요청 수가 지표로 노출된다.
+---------------------
+   실패 케이스
+   [1] 한도를 넘은 요청은 실행하지 않고 거절한다.
+   [2] 다른 사용자는 영향을 받지 않는다.
+ */
+public class UserAdmissionControlTest {
+
+    @Test
+    @DisplayName("성공-요청이 끝나면 처리 중 요청 수가 0 으로 돌아온다")
+    public void 성공_요청_종료_후_정리() {
+
+        //given
+        UserAdmissionControl userAdmissionControl = new UserAdmissionControl(2 , "" , new SimpleMeterRegistry());
+
+        //when
+        int depthWhileRunning = userAdmissionControl.admit(1L , () -> userAdmissionControl.getDepth(1L));
+        Assertions.assertThatThrownBy(() -> userAdmissionControl.admit(1L , () -> {
+            throw new BusinessException(400 , Messages.LACK_POINT);
+        })).isInstanceOf(BusinessException.class);
+
+        //then
+        Assertions.assertThat(depthWhileRunning).isEqualTo(1);
+        Assertions.assertThat(userAdmissionControl.getDepth(1L)).isZero();
+        Assertions.assertThat(userAdmissionControl.getStats().busyUsers()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공-한도를 따로 지정한 사용자는 그 한도까지 받는다")
+    public void 성공_사용자별_한도() {
+
+        //given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        UserAdmissionControl userAdmissionControl = new UserAdmissionControl(1 , "1001:3" , meterRegistry);
+
+        //when
+        userAdmissionControl.acquire(1001L);
+        userAdmissionControl.acquire(1001L);
+        userAdmissionControl.acquire(1001L);
+
+        //then
+        Assertions.assertThat(userAdmissionControl.getLimit(1001L)).isEqualTo(3);
+        Assertions.assertThat(userAdmissionControl.getLimit(1L)).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.get("point.admission.in.flight").tag("user" , "1001").gauge().value()).isEqualTo(3);
+        Assertions.assertThat(meterRegistry.get("point.admission.max.depth").gauge().value()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("실패-한도를 넘은 요청은 거절하고 다른 사용자는 영향이 없다")
+    public void 실패_한도_초과_거절() {
+
+        //given
+        UserAdmissionControl userAdmissionControl = new UserAdmissionControl(2 , "" , new SimpleMeterRegistry());
+        userAdmissionControl.acquire(1L);
+        userAdmissionControl.acquire(1L);
+        boolean[] executed = {false};
+
+        //when , then
+        Assertions.assertThatThrownBy(() -> userAdmissionControl.admit(1L , () -> executed[0] = true))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(Messages.ADMISSION_REJECTED.toString());
+        Assertions.assertThat(executed[0]).isFalse();
+        Assertions.assertThat(userAdmissionControl.getDepth(1L)).isEqualTo(2);
+        Assertions.assertThat(userAdmissionControl.admit(2L , () -> "ok")).isEqualTo("ok");
+        Assertions.assertThat(userAdmissionControl.getStats().rejections()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,52 @@
+package com.restapi.point.unit.config;
+
+import com.restapi.point.infrastructure.config.AdmissionConfig;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+/* 처리 중 요청 수 한도와 커넥션 풀 크기 , Group Commit 묶음 크기 검증 단위 테스트 */
+/* 성공 케이스
+   [1] 기본 한도 / 사용자별 한도가 커넥션 풀보다 작으면 기동한다.
+   [2] Group Commit 묶음 크기가 한도 이하이면 기동한다. (Group Commit 을 끄면 검증하지 않는다)
+---------------------
+   실패 케이스
+   [1] 기본 한도가 커넥션 풀 이상인 경우
+   [2] 사용자별 한도가 커넥션 풀 이상인 경우
+   [3] Group Commit 묶음 크기가 한도보다 큰 경우
+ */
+public class AdmissionConfigTest {
+
+    @Test
+    @DisplayName("성공-한도가 커넥션 풀보다 작은 경우")
+    public void 성공_한도가_풀보다_작음() {
+        Assertions.assertThatCode(() -> AdmissionConfig.validate(8 , Map.of(1001L , 9) , 10 , false , 100)).doesNotThrowAnyException();
+        Assertions.assertThatCode(() -> AdmissionConfig.validate(8 , Map.of(1001L , 9) , 10 , true , 8)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("실패-기본 한도가 커넥션 풀 이상인 경우")
+    public void 실패_한도가_풀_이상() {
+        Assertions.assertThatThrownBy(() -> AdmissionConfig.validate(10 , Map.of() , 10 , false , 100))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("spring.datasource.hikari.maximum-pool-size");
+    }
+
+    @Test
+    @DisplayName("실패-사용자별 한도가 커넥션 풀 이상인 경우")
+    public void 실패_사용자별_한도가_풀_이상() {
+        Assertions.assertThatThrownBy(() -> AdmissionConfig.validate(8 , Map.of(1001L , 200) , 10 , false , 100))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("point.admission.overrides(1001)");
+    }
+
+    @Test
+    @DisplayName("실패-Group Commit 묶음 크기가 한도보다 큰 경우")
+    public void 실패_묶음_크기가_한도보다_큼() {
+        Assertions.assertThatThrownBy(() -> AdmissionConfig.validate(8 , Map.of() , 10 , true , 100))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("point.charge.group-commit.max-batch-size");
+    }
+}
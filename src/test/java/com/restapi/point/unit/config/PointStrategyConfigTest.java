@@ -0,0 +1,55 @@
+package com.restapi.point.unit.config;
+
+import com.restapi.point.application.enums.LockStrategy;
+import com.restapi.point.infrastructure.config.PointStrategyConfig;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/* 동시성 제어 방식 조합 검증 단위 테스트 */
+/* 성공 케이스
+   [1] 원장 모드가 아니면 Group Commit / 일괄 처리를 함께 켤 수 있다.
+   [2] 원장 모드는 Group Commit 과 일괄 처리를 끄면 기동한다.
+---------------------
+   실패 케이스
+   [1] 원장 모드 + Group Commit
+   [2] 원장 모드 + 일괄 처리 API
+   [3] JVM 락 방식(SYNCHRONIZED , REENTRANT_LOCK) + 일괄 처리 API
+ */
+public class PointStrategyConfigTest {
+
+    @Test
+    @DisplayName("성공-허용되는 조합")
+    public void 성공_허용되는_조합() {
+        Assertions.assertThatCode(() -> PointStrategyConfig.validate(LockStrategy.PESSIMISTIC_LOCK , true , true)).doesNotThrowAnyException();
+        Assertions.assertThatCode(() -> PointStrategyConfig.validate(LockStrategy.LEDGER , false , false)).doesNotThrowAnyException();
+        Assertions.assertThatCode(() -> PointStrategyConfig.validate(LockStrategy.MAILBOX , false , true)).doesNotThrowAnyException();
+        Assertions.assertThatCode(() -> PointStrategyConfig.validate(LockStrategy.REENTRANT_LOCK , false , false)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("실패-원장 모드와 Group Commit")
+    public void 실패_원장_모드와_Group_Commit() {
+        Assertions.assertThatThrownBy(() -> PointStrategyConfig.validate(LockStrategy.LEDGER , true , false))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("point.charge.group-commit.enabled=false");
+    }
+
+    @Test
+    @DisplayName("실패-원장 모드와 일괄 처리 API")
+    public void 실패_원장_모드와_일괄_처리() {
+        Assertions.assertThatThrownBy(() -> PointStrategyConfig.validate(LockStrategy.LEDGER , false , true))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("point.batch.enabled=false");
+    }
+
+    @Test
+    @DisplayName("실패-JVM 락 방식과 일괄 처리 API")
+    public void 실패_JVM_락_방식과_일괄_처리() {
+        for(LockStrategy lockStrategy : new LockStrategy[]{LockStrategy.SYNCHRONIZED , LockStrategy.REENTRANT_LOCK}) {
+            Assertions.assertThatThrownBy(() -> PointStrategyConfig.validate(lockStrategy , false , true))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("point.batch.enabled=false");
+        }
+    }
+}
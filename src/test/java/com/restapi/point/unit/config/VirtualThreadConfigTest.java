@@ -0,0 +1,31 @@
+package com.restapi.point.unit.config;
+
+import com.restapi.point.infrastructure.config.VirtualThreadConfig;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/* virtual 프로파일 실행 환경 검증 단위 테스트 */
+/* 성공 케이스
+   [1] Java 21 이상이면 통과한다.
+---------------------
+   실패 케이스
+   [1] Java 21 미만이면 기동을 중단한다.
+ */
+public class VirtualThreadConfigTest {
+
+    @Test
+    @DisplayName("성공-Java 21 이상이면 통과한다")
+    public void 성공_Java_21_이상() {
+        Assertions.assertThatCode(() -> VirtualThreadConfig.checkJavaVersion(21)).doesNotThrowAnyException();
+        Assertions.assertThatCode(() -> VirtualThreadConfig.checkJavaVersion(25)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("실패-Java 21 미만이면 기동을 중단한다")
+    public void 실패_Java_21_미만() {
+        Assertions.assertThatThrownBy(() -> VirtualThreadConfig.checkJavaVersion(17))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Java 21");
+    }
+}
@@ -0,0 +1,111 @@
+package com.restapi.point.unit.controller;
+
+import com.restapi.point.application.enums.Messages;
+import com.restapi.point.presentation.dto.BatchRequestDTO;
+import com.restapi.point.presentation.dto.BatchResultDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
+import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
+import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/* 포인트 일괄 처리 단위 테스트 */
+/* 성공 케이스
+   [1] 명령별 처리 결과를 요청 순서대로 반환한다.
+---------------------
+   실패 케이스
+   [1] atomic 배치에서 실패한 명령이 있으면 400 을 반환한다.
+ */
+public class BatchTest extends PointRestControllerBase {
+
+    @Test
+    @DisplayName("성공-포인트 충전/사용 일괄 처리하기")
+    public void 성공_포인트_충전_사용을_일괄_처리한다() throws Exception {
+
+        //given
+        List<BatchResultDTO> results = List.of(
+                new BatchResultDTO(0 , 1L , "charge" , true , 10000L , Messages.CHARGE_SUCCESS.toString()) ,
+                new BatchResultDTO(1 , 2L , "use" , true , 2000L , Messages.USE_SUCCESS.toString())
+        );
+
+        //when
+        when(pointBatchUseCase.execute(any(BatchRequestDTO.class))).thenReturn(results);
+
+        String requestBody = "{ \"atomic\": false , \"commands\": [" +
+                "{ \"userId\": 1, \"op\": \"charge\", \"point\": 10000 }," +
+                "{ \"userId\": 2, \"op\": \"use\", \"point\": 3000 } ] }";
+
+        ResultActions perform = mockMvc.perform(post("/point/batch")
+                .content(requestBody)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON));
+
+        //then
+        perform.andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(Messages.BATCH_SUCCESS.toString()))
+                .andExpect(jsonPath("$.data[0].point").value(10000))
+                .andExpect(jsonPath("$.data[1].point").value(2000))
+                .andDo(print())
+                .andDo(document("batch-user-point", // 문서화 작업
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        requestFields(
+                                fieldWithPath("atomic").description("true 이면 하나라도 실패 시 전체 취소"),
+                                fieldWithPath("commands[].userId").description("대상 사용자의 ID"),
+                                fieldWithPath("commands[].op").description("charge 또는 use"),
+                                fieldWithPath("commands[].point").description("충전/사용할 포인트 양")
+                        ),
+                        responseFields(
+                                fieldWithPath("code").description("응답 코드").type(JsonFieldType.NUMBER),
+                                fieldWithPath("message").description("응답 메시지").type(JsonFieldType.STRING),
+                                fieldWithPath("data[].index").description("요청 commands 내 순번").type(JsonFieldType.NUMBER),
+                                fieldWithPath("data[].userId").description("대상 사용자의 ID").type(JsonFieldType.NUMBER),
+                                fieldWithPath("data[].op").description("charge 또는 use").type(JsonFieldType.STRING),
+                                fieldWithPath("data[].success").description("처리 성공 여부").type(JsonFieldType.BOOLEAN),
+                                fieldWithPath("data[].point").description("처리 후 잔액 (실패 시 null)").optional().type(JsonFieldType.NUMBER),
+                                fieldWithPath("data[].message").description("명령별 처리 메시지").type(JsonFieldType.STRING)
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("실패-atomic 배치에서 실패한 명령이 있으면 전체 취소")
+    public void 실패_atomic_배치는_하나라도_실패하면_전체_취소된다() throws Exception {
+
+        //given
+        List<BatchResultDTO> results = List.of(
+                new BatchResultDTO(0 , 1L , "charge" , false , null , Messages.BATCH_ROLLED_BACK.toString()) ,
+                new BatchResultDTO(1 , 2L , "use" , false , null , Messages.LACK_POINT.toString())
+        );
+
+        //when
+        when(pointBatchUseCase.execute(any(BatchRequestDTO.class))).thenReturn(results);
+
+        String requestBody = "{ \"atomic\": true , \"commands\": [" +
+                "{ \"userId\": 1, \"op\": \"charge\", \"point\": 10000 }," +
+                "{ \"userId\": 2, \"op\": \"use\", \"point\": 999999 } ] }";
+
+        ResultActions perform = mockMvc.perform(post("/point/batch")
+                .content(requestBody)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON));
+
+        //then
+        perform.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(Messages.BATCH_ROLLED_BACK.toString()))
+                .andExpect(jsonPath("$.data[1].message").value(Messages.LACK_POINT.toString()))
+                .andDo(print());
+    }
+}
@@ -13,6 +13,8 @@ import org.springframework.test.web.servlet.ResultActions;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.when;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.patch;
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
@@ -21,6 +23,7 @@ import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWit
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -31,6 +34,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
    실패 케이스
    [1] 충전할 금액이 0원 이하인 경우
    [2] 충전 금액 필드가 누락된 경우
+   [3] 같은 사용자의 요청이 몰려 락 대기 시간이 초과된 경우 (429 + Retry-After)
  */
 public class ChargeTest extends PointRestControllerBase {
     @Test
@@ -141,5 +145,37 @@ public class ChargeTest extends PointRestControllerBase {
                 ));
     }
 
+    @Test
+    @DisplayName("실패-락 대기 시간이 초과된 경우")
+    public void 실패_락_대기_시간_초과() throws Exception {
+
+        //given
+        long userId = 1L;
+        String requestBody = "{ \"point\": 10000 }";  // JSON 형식의 요청 본문
+
+        //when
+        when(pointChargeUseCase.charge(anyLong() , any(RequestDTO.class))).thenThrow(new BusinessException(429 , Messages.LOCK_TIMEOUT));
+
+        ResultActions perform = mockMvc.perform(patch("/point/{id}/charge", userId)
+                .content(requestBody)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON));
 
+        //then
+        perform.andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After" , "1"))
+                .andExpect(jsonPath("$.message").value(Messages.LOCK_TIMEOUT.toString()))
+                .andExpect(jsonPath("$.code").value(429))
+                .andDo(print())
+                .andDo(document("charge-user-point-failure-lock-timeout", // 문서화 작업
+                        responseHeaders(
+                                headerWithName("Retry-After").description("재시도까지 기다릴 시간(초)")
+                        ),
+                        responseFields(
+                                fieldWithPath("message").description("에러 메시지").type(JsonFieldType.STRING),
+                                fieldWithPath("code").description("에러 코드").type(JsonFieldType.NUMBER),
+                                fieldWithPath("data").description("응답 데이터 (오류 시 null)").optional().type(JsonFieldType.OBJECT)  // optional로 설정
+                        )
+                ));
+    }
 }
@@ -0,0 +1,105 @@
+package com.restapi.point.unit.controller;
+
+import com.restapi.point.application.enums.Messages;
+import com.restapi.point.domain.model.PointHistory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+
+/* 포인트 내역 키셋 페이지 조회 단위 테스트 */
+/* 성공 케이스
+   [1] 페이지가 가득 찬 경우 마지막 내역 id 를 next 커서로 반환한다.
+   [2] 마지막 페이지인 경우 next 커서를 생략한다.
+ */
+public class GetPointHistoriesPageTest extends PointRestControllerBase {
+
+    @Test
+    @DisplayName("성공-사용자 포인트 이용내역 페이지 조회하기")
+    public void 성공_사용자_포인트_이용내역_페이지를_조회한다() throws Exception {
+
+        //given
+        long userId = 1L;
+        List<PointHistory> pointHistories = List.of(
+                new PointHistory(11L , userId , 10000L , "charge") ,
+                new PointHistory(12L , userId , 5000L , "use")
+        );
+
+        //when
+        when(pointHistoriesSearchUseCase.getPointHistoriesAfter(anyLong() , eq(10L) , eq(2))).thenReturn(pointHistories);
+
+        ResultActions perform = mockMvc.perform(get("/point/{id}/histories", userId)
+                .param("afterId" , "10")
+                .param("limit" , "2")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON));
+        //then
+        perform.andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(Messages.POINT_HISTORY_SEARCH_SUCCESS.toString()))
+                .andExpect(jsonPath("$.data[0].id").value(11))
+                .andExpect(jsonPath("$.data[1].id").value(12))
+                .andExpect(jsonPath("$.next").value(12))
+                .andDo(print())
+                .andDo(document("get-user-point-histories-page", // 문서화 작업
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        pathParameters(
+                                parameterWithName("id").description("포인트를 조회할 사용자의 ID")
+                        ),
+                        queryParameters(
+                                parameterWithName("afterId").description("마지막으로 받은 내역 ID (이후 내역부터 조회 , 기본 0)"),
+                                parameterWithName("limit").description("최대 조회 건수 (기본 100 , 최대 1000)")
+                        ),
+                        responseFields(
+                                fieldWithPath("code").description("응답 코드").type(JsonFieldType.NUMBER),
+                                fieldWithPath("message").description("응답 메시지").type(JsonFieldType.STRING),
+                                fieldWithPath("data").description("조회된 사용자의 포인트 사용 내역").type(JsonFieldType.ARRAY) ,
+                                fieldWithPath("data[].id").description("포인트 기록의 ID").type(JsonFieldType.NUMBER),
+                                fieldWithPath("data[].userId").description("사용자의 ID").type(JsonFieldType.NUMBER),
+                                fieldWithPath("data[].point").description("포인트 값").type(JsonFieldType.NUMBER),
+                                fieldWithPath("data[].type").description("포인트의 사용 유형 (충전 또는 사용)").type(JsonFieldType.STRING),
+                                fieldWithPath("next").description("다음 페이지 조회 시 afterId 로 사용할 커서 (마지막 페이지면 생략)").optional().type(JsonFieldType.NUMBER)
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("성공-마지막 페이지는 next 커서가 없다")
+    public void 성공_마지막_페이지는_next_커서가_없다() throws Exception {
+
+        //given
+        long userId = 1L;
+        List<PointHistory> pointHistories = List.of(new PointHistory(13L , userId , 3000L , "use"));
+
+        //when
+        when(pointHistoriesSearchUseCase.getPointHistoriesAfter(anyLong() , anyLong() , anyInt())).thenReturn(pointHistories);
+
+        ResultActions perform = mockMvc.perform(get("/point/{id}/histories", userId)
+                .param("afterId" , "12")
+                .param("limit" , "2")
+                .accept(MediaType.APPLICATION_JSON));
+        //then
+        perform.andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(13))
+                .andExpect(jsonPath("$.next").doesNotExist())
+                .andDo(print());
+    }
+}
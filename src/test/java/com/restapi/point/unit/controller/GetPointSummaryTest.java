@@ -0,0 +1,72 @@
+package com.restapi.point.unit.controller;
+
+import com.restapi.point.application.enums.Messages;
+import com.restapi.point.domain.model.PointSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/* 포인트 내역 요약 조회 단위 테스트 */
+/* 성공 케이스
+   [1] 사용자의 총 충전 , 총 사용 , 건수 , 마지막 활동 시각을 반환한다.
+---------------------
+   실패 케이스
+   [1] x 사용자 관련 검증은 인터셉터 통합테스트에서 진행
+ */
+public class GetPointSummaryTest extends PointRestControllerBase {
+
+    @Test
+    @DisplayName("성공-사용자 포인트 내역 요약 조회하기")
+    public void 성공_사용자_포인트_내역_요약을_조회한다() throws Exception {
+
+        //given
+        long userId = 1L;
+        PointSummary pointSummary = new PointSummary(userId , 50000L , 30000L , 2L , LocalDateTime.of(2024 , 9 , 1 , 12 , 0));
+
+        //when
+        when(pointHistoriesSearchUseCase.getPointSummary(anyLong())).thenReturn(pointSummary);
+
+        ResultActions perform = mockMvc.perform(get("/point/{id}/summary", userId)
+                .accept(MediaType.APPLICATION_JSON));
+
+        //then
+        perform.andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(Messages.SUMMARY_SEARCH_SUCCESS.toString()))
+                .andExpect(jsonPath("$.data.totalCharged").value(50000))
+                .andExpect(jsonPath("$.data.totalUsed").value(30000))
+                .andExpect(jsonPath("$.data.transactionCount").value(2))
+                .andDo(print())
+                .andDo(document("get-user-point-summary", // 문서화 작업
+                        preprocessResponse(prettyPrint()),
+                        pathParameters(
+                                parameterWithName("id").description("요약을 조회할 사용자의 ID")
+                        ),
+                        responseFields(
+                                fieldWithPath("code").description("응답 코드").type(JsonFieldType.NUMBER),
+                                fieldWithPath("message").description("응답 메시지").type(JsonFieldType.STRING),
+                                fieldWithPath("data.userId").description("사용자의 ID").type(JsonFieldType.NUMBER),
+                                fieldWithPath("data.totalCharged").description("총 충전 포인트").type(JsonFieldType.NUMBER),
+                                fieldWithPath("data.totalUsed").description("총 사용 포인트").type(JsonFieldType.NUMBER),
+                                fieldWithPath("data.transactionCount").description("충전/사용 건수").type(JsonFieldType.NUMBER),
+                                fieldWithPath("data.lastActivityAt").description("마지막 충전/사용 시각 (내역이 없으면 null)").optional().type(JsonFieldType.STRING)
+                        )
+                ));
+    }
+}
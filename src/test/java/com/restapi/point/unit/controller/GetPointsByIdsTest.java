@@ -0,0 +1,113 @@
+package com.restapi.point.unit.controller;
+
+import com.restapi.point.application.enums.Messages;
+import com.restapi.point.presentation.dto.PointBalanceDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
+import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
+import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/* 여러 사용자 포인트 조회 단위 테스트 */
+/* 성공 케이스
+   [1] ids 파라미터로 여러 사용자의 잔액을 한 번에 조회한다.
+   [2] 요청 본문으로 여러 사용자의 잔액을 한 번에 조회한다.
+---------------------
+   실패 케이스
+   [1] ids 에 숫자가 아닌 값이 들어온 경우
+ */
+public class GetPointsByIdsTest extends PointRestControllerBase {
+
+    @Test
+    @DisplayName("성공-여러 사용자 포인트 조회하기")
+    public void 성공_여러_사용자_포인트를_조회한다() throws Exception {
+
+        //given
+        List<PointBalanceDTO> balances = List.of(new PointBalanceDTO(1L , 10000L) , new PointBalanceDTO(2L , 20000L));
+
+        //when
+        when(pointSearchUseCase.getPointsByIds(eq(List.of(1L , 2L)))).thenReturn(balances);
+
+        ResultActions perform = mockMvc.perform(get("/point")
+                .param("ids" , "1,2")
+                .accept(MediaType.APPLICATION_JSON));
+
+        //then
+        perform.andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(Messages.SEARCH_SUCCESS.toString()))
+                .andExpect(jsonPath("$.data[0].userId").value(1))
+                .andExpect(jsonPath("$.data[1].point").value(20000))
+                .andDo(print())
+                .andDo(document("get-users-point", // 문서화 작업
+                        preprocessResponse(prettyPrint()),
+                        queryParameters(
+                                parameterWithName("ids").description("조회할 사용자 ID 목록 (쉼표로 구분 , 최대 10000)")
+                        ),
+                        responseFields(
+                                fieldWithPath("code").description("응답 코드").type(JsonFieldType.NUMBER),
+                                fieldWithPath("message").description("응답 메시지").type(JsonFieldType.STRING),
+                                fieldWithPath("data[].userId").description("사용자의 ID (없는 사용자는 제외)").type(JsonFieldType.NUMBER),
+                                fieldWithPath("data[].point").description("사용자의 잔여 포인트").type(JsonFieldType.NUMBER)
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("성공-요청 본문으로 여러 사용자 포인트 조회하기")
+    public void 성공_요청_본문으로_여러_사용자_포인트를_조회한다() throws Exception {
+
+        //given
+        List<PointBalanceDTO> balances = List.of(new PointBalanceDTO(1L , 10000L));
+
+        //when
+        when(pointSearchUseCase.getPointsByIds(anyList())).thenReturn(balances);
+
+        ResultActions perform = mockMvc.perform(post("/point/balances")
+                .content("{ \"ids\": [1, 2] }")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON));
+
+        //then
+        perform.andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].point").value(10000))
+                .andDo(print())
+                .andDo(document("post-users-point", // 문서화 작업
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        requestFields(
+                                fieldWithPath("ids").description("조회할 사용자 ID 목록 (최대 10000)")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("실패-ids 에 숫자가 아닌 값이 들어온 경우")
+    public void 실패_ids_가_숫자가_아니다() throws Exception {
+
+        //when
+        ResultActions perform = mockMvc.perform(get("/point")
+                .param("ids" , "1,abc")
+                .accept(MediaType.APPLICATION_JSON));
+
+        //then
+        perform.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(Messages.BAD_REQUEST.toString()))
+                .andDo(print());
+    }
+}
@@ -3,6 +3,7 @@ package com.restapi.point.unit.controller;
 /* 공통 로직 처리 */
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restapi.point.application.usecase.PointBatchUseCase;
 import com.restapi.point.application.usecase.PointChargeUseCase;
 import com.restapi.point.application.usecase.PointHistoriesSearchUseCase;
 import com.restapi.point.application.usecase.PointSearchUseCase;
@@ -53,6 +54,9 @@ public class PointRestControllerBase {
     @MockBean
     PointHistoriesSearchUseCase pointHistoriesSearchUseCase;
 
+    @MockBean
+    PointBatchUseCase pointBatchUseCase;
+
     @Autowired
     protected WebApplicationContext context;
 
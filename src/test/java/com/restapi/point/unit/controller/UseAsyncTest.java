@@ -0,0 +1,124 @@
+package com.restapi.point.unit.controller;
+
+import com.restapi.point.application.enums.Messages;
+import com.restapi.point.application.exception.BusinessException;
+import com.restapi.point.domain.model.User;
+import com.restapi.point.presentation.dto.RequestDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.patch;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/* 포인트 사용 (비동기) 단위 테스트 */
+/* 성공 케이스
+   [1] 메일박스 처리가 끝나면 사용 후 잔액을 반환한다. (DeferredResult)
+---------------------
+   실패 케이스
+   [1] 메일박스 처리 중 실패하면 동기 API 와 같은 오류 응답을 반환한다.
+   [2] 메일박스가 가득 차 적재되지 않으면 바로 429 + Retry-After 를 반환한다.
+ */
+public class UseAsyncTest extends PointRestControllerBase {
+
+    @Test
+    @DisplayName("성공-사용자 포인트 비동기 사용하기")
+    public void 성공_사용자_포인트를_비동기로_사용한다() throws Exception {
+
+        //given
+        long userId = 1L;
+        String requestBody = "{ \"point\": 10000 }";
+
+        //when
+        when(pointUseUseCase.useAsync(anyLong() , any(RequestDTO.class))).thenReturn(CompletableFuture.completedFuture(new User(userId , 10000)));
+
+        MvcResult started = mockMvc.perform(patch("/point/{id}/use/async" , userId)
+                        .content(requestBody)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ResultActions perform = mockMvc.perform(asyncDispatch(started));
+
+        //then
+        perform.andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(Messages.USE_SUCCESS.toString()))
+                .andExpect(jsonPath("$.data").value(10000))
+                .andDo(print())
+                .andDo(document("use-user-point-async" , // 문서화 작업
+                        responseFields(
+                                fieldWithPath("code").description("응답 코드").type(JsonFieldType.NUMBER),
+                                fieldWithPath("message").description("응답 메시지").type(JsonFieldType.STRING),
+                                fieldWithPath("data").description("사용 후 사용자의 총 포인트").type(JsonFieldType.NUMBER)
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("실패-메일박스 처리 중 실패한 경우")
+    public void 실패_메일박스_처리_중_실패() throws Exception {
+
+        //given
+        long userId = 1L;
+        String requestBody = "{ \"point\": 50000 }";
+
+        //when
+        when(pointUseUseCase.useAsync(anyLong() , any(RequestDTO.class)))
+                .thenReturn(CompletableFuture.failedFuture(new BusinessException(400 , Messages.LACK_POINT)));
+
+        MvcResult started = mockMvc.perform(patch("/point/{id}/use/async" , userId)
+                        .content(requestBody)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ResultActions perform = mockMvc.perform(asyncDispatch(started));
+
+        //then
+        perform.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(Messages.LACK_POINT.toString()))
+                .andExpect(jsonPath("$.code").value(400))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("실패-메일박스가 가득 찬 경우")
+    public void 실패_메일박스_가득_참() throws Exception {
+
+        //given
+        long userId = 1L;
+        String requestBody = "{ \"point\": 10000 }";
+
+        //when
+        when(pointUseUseCase.useAsync(anyLong() , any(RequestDTO.class))).thenThrow(new BusinessException(429 , Messages.MAILBOX_FULL));
+
+        ResultActions perform = mockMvc.perform(patch("/point/{id}/use/async" , userId)
+                .content(requestBody)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON));
+
+        //then
+        perform.andExpect(request().asyncNotStarted())
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After" , "1"))
+                .andExpect(jsonPath("$.message").value(Messages.MAILBOX_FULL.toString()))
+                .andExpect(jsonPath("$.code").value(429))
+                .andDo(print());
+    }
+}
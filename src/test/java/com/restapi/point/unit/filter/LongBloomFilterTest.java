@@ -0,0 +1,56 @@
+package com.restapi.point.unit.filter;
+
+import com.restapi.point.infrastructure.filter.LongBloomFilter;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/* Bloom filter 단위 테스트 */
+/* 성공 케이스
+   [1] 넣은 키는 항상 있다고 응답한다. (false negative 없음)
+   [2] 넣지 않은 키의 오탐률은 목표치 근처로 유지된다.
+ */
+public class LongBloomFilterTest {
+
+    @Test
+    @DisplayName("성공-넣은 키는 항상 있다고 응답한다")
+    public void 성공_넣은_키는_항상_존재() {
+
+        //given
+        LongBloomFilter bloomFilter = new LongBloomFilter(10000 , 0.01);
+
+        //when
+        for(long id = 1 ; id <= 10000 ; id++) {
+            bloomFilter.put(id);
+        }
+
+        //then
+        for(long id = 1 ; id <= 10000 ; id++) {
+            Assertions.assertThat(bloomFilter.mightContain(id)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("성공-넣지 않은 키의 오탐률이 목표치 근처로 유지된다")
+    public void 성공_오탐률_목표치_유지() {
+
+        //given
+        LongBloomFilter bloomFilter = new LongBloomFilter(10000 , 0.01);
+        for(long id = 1 ; id <= 10000 ; id++) {
+            bloomFilter.put(id);
+        }
+
+        //when
+        int falsePositives = 0;
+        int numberOfChecks = 100000;
+        for(long id = 1_000_000 ; id < 1_000_000 + numberOfChecks ; id++) {
+            if(bloomFilter.mightContain(id)) falsePositives++;
+        }
+
+        //then
+        double observed = (double) falsePositives / numberOfChecks;
+        Assertions.assertThat(observed).isLessThan(0.02);
+        Assertions.assertThat(bloomFilter.estimatedFalsePositiveRate()).isLessThan(0.02);
+        Assertions.assertThat(bloomFilter.getInsertions()).isLessThanOrEqualTo(10000);
+    }
+}
@@ -0,0 +1,167 @@
+package com.restapi.point.unit.idempotency;
+
+import com.restapi.point.application.enums.Messages;
+import com.restapi.point.application.exception.BusinessException;
+import com.restapi.point.infrastructure.idempotency.IdempotencyStore;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/* Idempotency-Key 저장소 단위 테스트 */
+/* 성공 케이스
+   [1] 같은 키로 다시 요청하면 실행하지 않고 처음 결과를 돌려준다.
+   [2] 같은 키로 동시에 들어온 요청은 한 번만 실행된다.
+   [3] 400 / 422 BusinessException 은 저장되어 같은 오류를 돌려준다.
+---------------------
+   실패 케이스
+   [1] 같은 키로 다른 금액을 요청하면 거절한다.
+   [2] BusinessException 이 아닌 오류는 저장하지 않는다. (재시도 시 다시 실행)
+   [3] 409 / 429 같은 일시적인 거절은 저장하지 않는다. (재시도 시 다시 실행)
+ */
+public class IdempotencyStoreTest {
+
+    @Test
+    @DisplayName("성공-같은 키로 다시 요청하면 처음 결과를 돌려준다")
+    public void 성공_같은_키_재요청은_처음_결과를_돌려준다() {
+
+        //given
+        IdempotencyStore idempotencyStore = new IdempotencyStore(100 , 60);
+        AtomicInteger executions = new AtomicInteger();
+
+        //when
+        long first = idempotencyStore.execute("charge:1:key" , 1000 , () -> 1000L * executions.incrementAndGet());
+        long second = idempotencyStore.execute("charge:1:key" , 1000 , () -> 1000L * executions.incrementAndGet());
+
+        //then
+        Assertions.assertThat(second).isEqualTo(first);
+        Assertions.assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공-같은 키로 동시에 들어온 요청은 한 번만 실행된다")
+    public void 성공_동시_중복_요청은_한번만_실행된다() throws InterruptedException {
+
+        //given
+        IdempotencyStore idempotencyStore = new IdempotencyStore(100 , 60);
+        AtomicInteger executions = new AtomicInteger();
+        int numberOfRequests = 50;
+        CountDownLatch latch = new CountDownLatch(numberOfRequests);
+        ExecutorService executorService = Executors.newFixedThreadPool(10);
+
+        //when
+        for (int i = 0; i < numberOfRequests; i++) {
+            executorService.submit(() -> {
+                try {
+                    idempotencyStore.execute("charge:1:key" , 1000 , () -> {
+                        executions.incrementAndGet();
+                        try {
+                            Thread.sleep(50);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return 1000L;
+                    });
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(10 , TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        //then
+        Assertions.assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공-BusinessException 은 저장되어 같은 오류를 돌려준다")
+    public void 성공_비즈니스_오류는_그대로_재전달된다() {
+
+        //given
+        IdempotencyStore idempotencyStore = new IdempotencyStore(100 , 60);
+        AtomicInteger executions = new AtomicInteger();
+
+        //when
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertThatThrownBy(() -> idempotencyStore.execute("use:1:key" , 5000 , () -> {
+                executions.incrementAndGet();
+                throw new BusinessException(400 , Messages.LACK_POINT);
+            })).isInstanceOf(BusinessException.class).hasMessage(Messages.LACK_POINT.toString());
+        }
+
+        //then
+        Assertions.assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패-같은 키로 다른 금액을 요청하면 거절한다")
+    public void 실패_같은_키로_다른_요청은_거절한다() {
+
+        //given
+        IdempotencyStore idempotencyStore = new IdempotencyStore(100 , 60);
+        idempotencyStore.execute("charge:1:key" , 1000 , () -> 1000L);
+
+        //when , then
+        Assertions.assertThatThrownBy(() -> idempotencyStore.execute("charge:1:key" , 2000 , () -> 2000L))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(Messages.IDEMPOTENCY_KEY_REUSED.toString());
+    }
+
+    @Test
+    @DisplayName("실패-BusinessException 이 아닌 오류는 저장하지 않는다")
+    public void 실패_시스템_오류는_저장하지_않는다() {
+
+        //given
+        IdempotencyStore idempotencyStore = new IdempotencyStore(100 , 60);
+        Assertions.assertThatThrownBy(() -> idempotencyStore.execute("charge:1:key" , 1000 , () -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        //when
+        long point = idempotencyStore.execute("charge:1:key" , 1000 , () -> 1000L);
+
+        //then
+        Assertions.assertThat(point).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("실패-409 충돌은 저장하지 않는다")
+    public void 실패_충돌은_저장하지_않는다() {
+        assertRetryRunsAgain(new BusinessException(409 , Messages.CONCURRENT_UPDATE_CONFLICT));
+    }
+
+    @Test
+    @DisplayName("실패-429 거절은 저장하지 않는다")
+    public void 실패_요청_과다_거절은_저장하지_않는다() {
+        assertRetryRunsAgain(new BusinessException(429 , Messages.LOCK_TIMEOUT));
+        assertRetryRunsAgain(new BusinessException(429 , Messages.ADMISSION_REJECTED));
+    }
+
+    //첫 요청이 exception 으로 실패한 뒤 같은 키로 재시도하면 다시 실행된다
+    private void assertRetryRunsAgain(BusinessException exception) {
+
+        //given
+        IdempotencyStore idempotencyStore = new IdempotencyStore(100 , 60);
+        AtomicInteger executions = new AtomicInteger();
+        Assertions.assertThatThrownBy(() -> idempotencyStore.execute("charge:1:key" , 1000 , () -> {
+            executions.incrementAndGet();
+            throw exception;
+        })).isSameAs(exception);
+
+        //when
+        long point = idempotencyStore.execute("charge:1:key" , 1000 , () -> {
+            executions.incrementAndGet();
+            return 1000L;
+        });
+
+        //then
+        Assertions.assertThat(point).isEqualTo(1000L);
+        Assertions.assertThat(executions.get()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,80 @@
+package com.restapi.point.unit.interceptor;
+
+import com.restapi.point.application.enums.Messages;
+import com.restapi.point.application.exception.BusinessException;
+import com.restapi.point.infrastructure.interceptor.UserIdParser;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+/* 요청 URI 사용자 id 추출 단위 테스트 */
+/* 성공 케이스
+   [1] 경로 두 번째 구간의 숫자를 Long.parseLong 과 같은 값으로 읽는다.
+   [2] 정상 경로에서는 객체를 만들지 않는다. (스레드 할당량으로 확인)
+---------------------
+   실패 케이스
+   [1] 사용자 id 가 누락된 경우
+   [2] 사용자 id 가 숫자가 아닌 경우
+   [3] 사용자 id 가 long 범위를 넘어서는 경우
+ */
+public class UserIdParserTest {
+
+    @Test
+    @DisplayName("성공-경로에서 사용자 id 를 읽는다")
+    public void 성공_경로에서_사용자_id_를_읽는다() {
+        Assertions.assertThat(UserIdParser.parse("/point/123")).isEqualTo(123L);
+        Assertions.assertThat(UserIdParser.parse("/point/123/charge")).isEqualTo(123L);
+        Assertions.assertThat(UserIdParser.parse("/point/0/histories/stream")).isZero();
+        Assertions.assertThat(UserIdParser.parse("/point/-5")).isEqualTo(-5L);
+        Assertions.assertThat(UserIdParser.parse("/point/" + Long.MAX_VALUE)).isEqualTo(Long.MAX_VALUE);
+        Assertions.assertThat(UserIdParser.parse("/point/" + Long.MIN_VALUE)).isEqualTo(Long.MIN_VALUE);
+    }
+
+    @Test
+    @DisplayName("실패-형식이 잘못된 사용자 id 는 BAD_REQUEST")
+    public void 실패_형식이_잘못된_사용자_id() {
+        for(String requestURI : new String[] {"/point" , "/point/" , "/point//charge" , "/point/-" , "/point/12a" ,
+                "/point/가나다라마12345" , "/point/9223372036854775808" , "/point/-9223372036854775809" , "/point/1123123243621435352435454235"}) {
+            assertThatThrownBy(() -> UserIdParser.parse(requestURI))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessage(Messages.BAD_REQUEST.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("성공-정상 경로에서는 객체를 만들지 않는다")
+    public void 성공_정상_경로_할당_없음() {
+
+        //given : 스레드별 할당량을 측정할 수 있는 JVM 에서만 확인
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        String requestURI = "/point/1234567890/charge";
+        int iterations = 100_000;
+        parseRepeatedly(requestURI , iterations); //클래스 로딩 , 인터프리터 -> JIT 전환을 측정 구간 밖에서 끝낸다
+
+        //when : 측정 호출 자체의 할당량을 빼기 위해 빈 구간도 함께 잰다
+        long emptyStart = threadMXBean.getCurrentThreadAllocatedBytes();
+        long emptyEnd = threadMXBean.getCurrentThreadAllocatedBytes();
+        long start = threadMXBean.getCurrentThreadAllocatedBytes();
+        long sum = parseRepeatedly(requestURI , iterations);
+        long end = threadMXBean.getCurrentThreadAllocatedBytes();
+
+        //then : 호출마다 객체 하나만 만들어도 iterations * 16 바이트 이상이 된다
+        Assertions.assertThat(sum).isEqualTo(1234567890L * iterations);
+        Assertions.assertThat((end - start) - (emptyEnd - emptyStart)).isLessThan(1024);
+    }
+
+    private static long parseRepeatedly(String requestURI , int iterations) {
+        long sum = 0;
+        for(int i = 0 ; i < iterations ; i++) {
+            sum += UserIdParser.parse(requestURI);
+        }
+        return sum;
+    }
+}
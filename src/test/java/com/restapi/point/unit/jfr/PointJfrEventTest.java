@@ -0,0 +1,57 @@
+package com.restapi.point.unit.jfr;
+
+import com.restapi.point.infrastructure.jfr.PointDbCallEvent;
+import com.restapi.point.infrastructure.jfr.PointLockWaitEvent;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/* JFR 이벤트 단위 테스트 */
+/* 성공 케이스
+   [1] 락 대기 이벤트에 사용자 id , 동시성 제어 방식이 기록된다.
+   [2] DB 호출 이벤트에 리포지토리 메소드 , 행 수가 기록된다.
+ */
+public class PointJfrEventTest {
+
+    @Test
+    @DisplayName("성공-락 대기 / DB 호출 이벤트가 기록된다")
+    public void 성공_이벤트_기록() throws IOException {
+
+        //given
+        Path file = Files.createTempFile("point-test-" , ".jfr");
+        List<RecordedEvent> events;
+
+        //when
+        try (Recording recording = new Recording()) {
+            recording.enable(PointLockWaitEvent.class);
+            recording.enable(PointDbCallEvent.class);
+            recording.start();
+
+            PointLockWaitEvent.begin(7L , "REENTRANT_LOCK").end();
+            PointDbCallEvent.begin(7L , "UserRepository.findById").end(1);
+
+            recording.stop();
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+        //then
+        RecordedEvent lockWait = events.stream().filter(event -> event.getEventType().getName().equals("com.restapi.point.PointLockWait")).findFirst().get();
+        Assertions.assertThat(lockWait.getLong("userId")).isEqualTo(7L);
+        Assertions.assertThat(lockWait.getString("strategy")).isEqualTo("REENTRANT_LOCK");
+
+        RecordedEvent dbCall = events.stream().filter(event -> event.getEventType().getName().equals("com.restapi.point.PointDbCall")).findFirst().get();
+        Assertions.assertThat(dbCall.getString("method")).isEqualTo("UserRepository.findById");
+        Assertions.assertThat(dbCall.getLong("rowCount")).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,118 @@
+package com.restapi.point.unit.lock;
+
+import com.restapi.point.infrastructure.lock.UserLockManager;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/* 사용자 락 매니저 단위 테스트 */
+/* 성공 케이스
+   [1] 같은 사용자에 대한 임계영역은 직렬화된다.
+   [2] 락 해제 후 점유 중인 스트라이프 수가 0 으로 돌아온다.
+   [3] 다른 사용자와 스트라이프가 겹쳐 대기하면 충돌로 집계된다.
+---------------------
+   실패 케이스
+   [1] 다른 스레드가 잡고 있는 락은 제한 시간이 지나면 포기한다.
+ */
+public class UserLockManagerTest {
+
+    @Test
+    @DisplayName("성공-같은 사용자의 요청은 직렬화된다")
+    public void 성공_같은_사용자_요청은_직렬화된다() throws InterruptedException {
+
+        //given
+        UserLockManager userLockManager = new UserLockManager(16);
+        int numberOfRequests = 100;
+        long[] counter = {0};
+        ExecutorService executorService = Executors.newFixedThreadPool(10);
+
+        //when
+        for (int i = 0; i < numberOfRequests; i++) {
+            executorService.submit(() -> {
+                userLockManager.lock(1L);
+                try {
+                    counter[0]++;
+                } finally {
+                    userLockManager.unlock(1L);
+                }
+            });
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+
+        //then
+        Assertions.assertThat(counter[0]).isEqualTo(numberOfRequests);
+        Assertions.assertThat(userLockManager.getStats().liveEntries()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공-재진입 후 해제하면 점유 스트라이프가 비워진다")
+    public void 성공_재진입_후_해제() {
+
+        //given
+        UserLockManager userLockManager = new UserLockManager(16);
+
+        //when
+        userLockManager.lock(1L);
+        userLockManager.lock(1L);
+        int liveWhileHeld = userLockManager.getStats().liveEntries();
+        userLockManager.unlock(1L);
+        userLockManager.unlock(1L);
+
+        //then
+        Assertions.assertThat(liveWhileHeld).isEqualTo(1);
+        Assertions.assertThat(userLockManager.getStats().liveEntries()).isZero();
+        Assertions.assertThat(userLockManager.getStats().stripes()).isEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("성공-스트라이프를 공유하는 다른 사용자를 기다리면 충돌로 집계된다")
+    public void 성공_스트라이프_충돌_집계() throws InterruptedException {
+
+        //given : 스트라이프가 1개면 모든 사용자가 같은 락을 공유한다
+        UserLockManager userLockManager = new UserLockManager(1);
+        CountDownLatch waiting = new CountDownLatch(1);
+
+        //when
+        userLockManager.lock(1L);
+        Thread other = new Thread(() -> {
+            waiting.countDown();
+            userLockManager.lock(2L);
+            userLockManager.unlock(2L);
+        });
+        other.start();
+        waiting.await();
+        Thread.sleep(100);
+        userLockManager.unlock(1L);
+        other.join();
+
+        //then
+        Assertions.assertThat(userLockManager.getStats().collisions()).isEqualTo(1);
+        Assertions.assertThat(userLockManager.getStats().liveEntries()).isZero();
+    }
+
+    @Test
+    @DisplayName("실패-제한 시간 안에 락을 얻지 못하면 포기한다")
+    public void 실패_락_대기_시간_초과() throws InterruptedException {
+
+        //given
+        UserLockManager userLockManager = new UserLockManager(16);
+        boolean[] acquired = {true};
+
+        //when
+        userLockManager.lock(1L);
+        Thread other = new Thread(() -> acquired[0] = userLockManager.tryLock(1L, 50));
+        other.start();
+        other.join();
+        userLockManager.unlock(1L);
+
+        //then
+        Assertions.assertThat(acquired[0]).isFalse();
+        Assertions.assertThat(userLockManager.getStats().liveEntries()).isZero();
+    }
+}
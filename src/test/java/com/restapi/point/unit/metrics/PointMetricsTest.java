@@ -0,0 +1,107 @@
+package com.restapi.point.unit.metrics;
+
+import com.restapi.point.application.enums.Messages;
+import com.restapi.point.application.exception.BusinessException;
+import com.restapi.point.infrastructure.metrics.PointMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/* 포인트 처리 지표 단위 테스트 */
+/* 성공 케이스
+   [1] 처리 시간이 operation , strategy , outcome 태그로 기록된다.
+   [2] 락 대기 시간 , 내역 INSERT 시간이 기록된다.
+   [3] 비동기 처리는 future 가 끝날 때 기록되고 , 실패로 끝나면 거절 코드도 집계된다.
+---------------------
+   실패 케이스
+   [1] BusinessException 은 Messages 코드별 거절 수로 집계된다.
+ */
+public class PointMetricsTest {
+
+    @Test
+    @DisplayName("성공-처리 시간이 태그별로 기록된다")
+    public void 성공_처리_시간_기록() {
+
+        //given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+
+        //when
+        long point = pointMetrics.timeOperation("charge" , "PESSIMISTIC_LOCK" , () -> 1000L);
+
+        //then
+        Assertions.assertThat(point).isEqualTo(1000L);
+        Assertions.assertThat(meterRegistry.get("point.request")
+                .tags("operation" , "charge" , "strategy" , "PESSIMISTIC_LOCK" , "outcome" , PointMetrics.SUCCESS)
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공-락 대기 시간과 내역 INSERT 시간이 기록된다")
+    public void 성공_락_대기_내역_시간_기록() {
+
+        //given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+
+        //when
+        pointMetrics.recordLockWait("user" , TimeUnit.MILLISECONDS.toNanos(5));
+        pointMetrics.timeHistoryInsert(() -> { });
+
+        //then
+        Assertions.assertThat(meterRegistry.get("point.lock.wait").tag("lock" , "user").timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(5);
+        Assertions.assertThat(meterRegistry.get("point.history.insert").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공-비동기 처리는 future 가 끝날 때 기록된다")
+    public void 성공_비동기_처리_시간_기록() {
+
+        //given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+        CompletableFuture<Long> future = new CompletableFuture<>();
+
+        //when
+        CompletableFuture<Long> timed = pointMetrics.timeAsyncOperation("charge_async" , "MAILBOX" , () -> future);
+        Assertions.assertThat(meterRegistry.find("point.request").timer()).isNull();
+        future.completeExceptionally(new BusinessException(429 , Messages.MAILBOX_FULL));
+
+        //then
+        Assertions.assertThat(timed).isCompletedExceptionally();
+        Assertions.assertThat(meterRegistry.get("point.request")
+                .tags("operation" , "charge_async" , "strategy" , "MAILBOX" , "outcome" , Messages.MAILBOX_FULL.name())
+                .timer().count()).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.get("point.rejections")
+                .tags("operation" , "charge_async" , "code" , Messages.MAILBOX_FULL.name())
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패-거절된 요청은 Messages 코드별로 집계된다")
+    public void 실패_거절_코드별_집계() {
+
+        //given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+
+        //when
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertThatThrownBy(() -> pointMetrics.timeOperation("use" , "CONDITIONAL_UPDATE" , () -> {
+                throw new BusinessException(400 , Messages.LACK_POINT);
+            })).isInstanceOf(BusinessException.class);
+        }
+
+        //then
+        Assertions.assertThat(meterRegistry.get("point.rejections")
+                .tags("operation" , "use" , "strategy" , "CONDITIONAL_UPDATE" , "code" , Messages.LACK_POINT.name())
+                .counter().count()).isEqualTo(2);
+        Assertions.assertThat(meterRegistry.get("point.request")
+                .tags("outcome" , Messages.LACK_POINT.name())
+                .timer().count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,76 @@
+package com.restapi.point.unit.metrics;
+
+import com.restapi.point.domain.service.PointChargeGroupCommitter;
+import com.restapi.point.infrastructure.cache.PointBalanceCache;
+import com.restapi.point.infrastructure.filter.UserExistenceFilter;
+import com.restapi.point.infrastructure.lock.UserLockManager;
+import com.restapi.point.infrastructure.metrics.PointStatsMeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+/* 컴포넌트 통계 지표 단위 테스트 */
+/* 성공 케이스
+   [1] 락 / 캐시 / Group Commit 통계가 point.* 지표로 노출된다.
+   [2] 없는 사용자 필터가 켜져 있으면 오탐률과 거절 수가 노출된다.
+   [3] 필터가 꺼져 있으면 필터 지표는 등록되지 않는다.
+ */
+public class PointStatsMeterBinderTest {
+
+    UserLockManager userLockManager = new UserLockManager(16);
+    PointBalanceCache pointBalanceCache = new PointBalanceCache(100);
+    PointChargeGroupCommitter pointChargeGroupCommitter = new PointChargeGroupCommitter(2 , 100 , 1);
+
+    @AfterEach
+    public void tearDown() {
+        pointChargeGroupCommitter.shutdown();
+    }
+
+    @Test
+    @DisplayName("성공-락 , 캐시 , Group Commit 통계가 지표로 노출된다")
+    public void 성공_컴포넌트_통계_노출() {
+
+        //given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        new PointStatsMeterBinder(userLockManager , pointBalanceCache , pointChargeGroupCommitter , Optional.empty()).bindTo(meterRegistry);
+
+        //when
+        userLockManager.lock(1L);
+        pointBalanceCache.get(1L , id -> 1000L);
+        pointBalanceCache.get(1L , id -> 1000L);
+
+        //then
+        Assertions.assertThat(meterRegistry.get("point.lock.stripes").gauge().value()).isEqualTo(16);
+        Assertions.assertThat(meterRegistry.get("point.lock.live.entries").gauge().value()).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.get("point.cache.hits").functionCounter().count()).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.get("point.cache.misses").functionCounter().count()).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.get("point.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+        Assertions.assertThat(meterRegistry.get("point.group.commit.batches").functionCounter().count()).isZero();
+        Assertions.assertThat(meterRegistry.find("point.user.filter.rejected").functionCounter()).isNull();
+        userLockManager.unlock(1L);
+    }
+
+    @Test
+    @DisplayName("성공-없는 사용자 필터 통계가 지표로 노출된다")
+    public void 성공_필터_통계_노출() {
+
+        //given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        UserExistenceFilter userExistenceFilter = new UserExistenceFilter(1000 , 0.01 , 0);
+        userExistenceFilter.add(1L);
+
+        //when
+        new PointStatsMeterBinder(userLockManager , pointBalanceCache , pointChargeGroupCommitter , Optional.of(userExistenceFilter)).bindTo(meterRegistry);
+
+        //then
+        Assertions.assertThat(meterRegistry.get("point.user.filter.insertions").gauge().value()).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.get("point.user.filter.rejected").functionCounter().count()).isZero();
+        Assertions.assertThat(meterRegistry.get("point.user.filter.estimated.false.positive.rate").gauge().value())
+                .isEqualTo(userExistenceFilter.getStats().estimatedFalsePositiveRate());
+        Assertions.assertThat(meterRegistry.get("point.user.filter.observed.false.positive.rate").gauge().value()).isZero();
+    }
+}
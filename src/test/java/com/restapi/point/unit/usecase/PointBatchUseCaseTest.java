@@ -0,0 +1,124 @@
+package com.restapi.point.unit.usecase;
+
+import com.restapi.point.application.enums.Messages;
+import com.restapi.point.application.exception.BusinessException;
+import com.restapi.point.application.usecase.PointBatchUseCase;
+import com.restapi.point.domain.model.User;
+import com.restapi.point.domain.service.PointHistoryRecorder;
+import com.restapi.point.domain.service.PointStripeService;
+import com.restapi.point.infrastructure.admission.UserAdmissionControl;
+import com.restapi.point.infrastructure.metrics.PointMetrics;
+import com.restapi.point.infrastructure.repository.UserRepository;
+import com.restapi.point.presentation.dto.BatchCommandDTO;
+import com.restapi.point.presentation.dto.BatchRequestDTO;
+import com.restapi.point.presentation.dto.BatchResultDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/* 일괄 처리 요청 검증 단위 테스트 (DB 접근 전에 거절되는 경우) */
+/* 성공 케이스
+   [1] 처리 중 요청 수 한도에 찬 사용자의 명령만 실패하고 다른 사용자 명령은 처리된다. (한도는 끝나면 돌려준다)
+---------------------
+   실패 케이스
+   [1] 명령이 없는 경우
+   [2] 명령 자리에 null 이 있는 경우
+   [3] 최대 명령 수를 넘은 경우
+ */
+public class PointBatchUseCaseTest {
+
+    PointBatchUseCase pointBatchUseCase = new PointBatchUseCase();
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(pointBatchUseCase , "pointMetrics" , new PointMetrics(meterRegistry));
+    }
+
+    @Test
+    @DisplayName("성공-처리 중 요청 수 한도에 찬 사용자의 명령만 실패한다")
+    @SuppressWarnings("unchecked")
+    public void 성공_한도_초과_사용자만_실패() {
+
+        //given : 사용자 1 은 한도(1)가 이미 차 있다
+        UserAdmissionControl userAdmissionControl = new UserAdmissionControl(1 , "" , meterRegistry);
+        userAdmissionControl.acquire(1L);
+        UserRepository userRepository = mock(UserRepository.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(userRepository.findByIdForUpdate(2L)).thenReturn(Optional.of(new User(2L , 1000)));
+        doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        ReflectionTestUtils.setField(pointBatchUseCase , "userAdmissionControl" , userAdmissionControl);
+        ReflectionTestUtils.setField(pointBatchUseCase , "userRepository" , userRepository);
+        ReflectionTestUtils.setField(pointBatchUseCase , "transactionTemplate" , transactionTemplate);
+        ReflectionTestUtils.setField(pointBatchUseCase , "pointStripeService" , mock(PointStripeService.class));
+        ReflectionTestUtils.setField(pointBatchUseCase , "pointHistoryRecorder" , mock(PointHistoryRecorder.class));
+
+        //when
+        List<BatchResultDTO> results = pointBatchUseCase.execute(new BatchRequestDTO(false , List.of(
+                new BatchCommandDTO(1L , BatchCommandDTO.CHARGE , 1000) ,
+                new BatchCommandDTO(2L , BatchCommandDTO.CHARGE , 1000))));
+
+        //then
+        Assertions.assertThat(results.get(0).isSuccess()).isFalse();
+        Assertions.assertThat(results.get(0).getMessage()).isEqualTo(Messages.ADMISSION_REJECTED.toString());
+        Assertions.assertThat(results.get(1).isSuccess()).isTrue();
+        Assertions.assertThat(results.get(1).getPoint()).isEqualTo(2000L);
+        verify(userRepository , never()).findByIdForUpdate(1L);
+        Assertions.assertThat(userAdmissionControl.getDepth(1L)).isEqualTo(1);
+        Assertions.assertThat(userAdmissionControl.getDepth(2L)).isZero();
+    }
+
+    @Test
+    @DisplayName("실패-명령이 없는 경우")
+    public void 실패_명령_없음() {
+        Assertions.assertThatThrownBy(() -> pointBatchUseCase.execute(new BatchRequestDTO(false , List.of())))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(Messages.BAD_REQUEST.toString());
+        Assertions.assertThat(meterRegistry.get("point.rejections").tags("operation" , "batch" , "code" , Messages.BAD_REQUEST.name()).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패-명령 자리에 null 이 있는 경우")
+    public void 실패_null_명령() {
+
+        //given
+        List<BatchCommandDTO> commands = Arrays.asList(new BatchCommandDTO(1L , BatchCommandDTO.CHARGE , 1000) , null);
+
+        //when , then
+        Assertions.assertThatThrownBy(() -> pointBatchUseCase.execute(new BatchRequestDTO(false , commands)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(Messages.BAD_REQUEST.toString())
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(400);
+    }
+
+    @Test
+    @DisplayName("실패-최대 명령 수를 넘은 경우")
+    public void 실패_최대_명령_수_초과() {
+
+        //given
+        BatchCommandDTO[] commands = new BatchCommandDTO[PointBatchUseCase.MAX_COMMANDS + 1];
+        Arrays.fill(commands , new BatchCommandDTO(1L , BatchCommandDTO.CHARGE , 1000));
+
+        //when , then
+        Assertions.assertThatThrownBy(() -> pointBatchUseCase.execute(new BatchRequestDTO(false , Arrays.asList(commands))))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(Messages.BAD_REQUEST.toString());
+    }
+}